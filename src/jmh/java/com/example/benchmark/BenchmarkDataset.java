@@ -0,0 +1,85 @@
+package com.example.benchmark;
+
+import com.example.JavaSpringBootTestingApplication;
+import com.example.model.Employee;
+import com.example.model.EmployeeBatchResult;
+import com.example.service.EmployeeService;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Boots the application without a web server against a private in-memory H2 database
+ * seeded with {@code size} generated employees.
+ */
+final class BenchmarkDataset implements AutoCloseable {
+    private static final int SEED_BATCH_SIZE = 1000;
+
+    private final ConfigurableApplicationContext context;
+
+    private final long[] ids;
+
+    private BenchmarkDataset(ConfigurableApplicationContext context, long[] ids) {
+        this.context = context;
+        this.ids = ids;
+    }
+
+    static BenchmarkDataset start(int size) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(JavaSpringBootTestingApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:benchmark-" + UUID.randomUUID(),
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=WARN")
+                .run();
+
+        EmployeeService employeeService = context.getBean(EmployeeService.class);
+        long[] ids = new long[size];
+        List<Employee> batch = new ArrayList<>(SEED_BATCH_SIZE);
+        for (int n = 0; n < size; n++) {
+            batch.add(employee(n));
+            if (batch.size() == SEED_BATCH_SIZE || n == size - 1) {
+                for (EmployeeBatchResult result : employeeService.saveEmployees(batch)) {
+                    ids[n - batch.size() + 1 + result.getIndex()] = result.getEmployee().getId();
+                }
+                batch = new ArrayList<>(SEED_BATCH_SIZE);
+            }
+        }
+        return new BenchmarkDataset(context, ids);
+    }
+
+    // the n-th generated employee; first and last names are unique so the full-name queries match exactly one row
+    static Employee employee(long n) {
+        return Employee.builder()
+                .firstName("First" + n)
+                .lastName("Last" + n)
+                .email("employee" + n + "@example.com")
+                .build();
+    }
+
+    <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    int size() {
+        return ids.length;
+    }
+
+    int randomIndex() {
+        return ThreadLocalRandom.current().nextInt(ids.length);
+    }
+
+    long randomId() {
+        return ids[randomIndex()];
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.benchmark;
+
+import com.example.model.Employee;
+import com.example.repository.EmployeeRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The four full-name query variants of {@link EmployeeRepository}: JPQL vs native SQL, indexed vs named parameters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeRepositoryBenchmark {
+    @Param({"1000", "10000"})
+    private int datasetSize;
+
+    private BenchmarkDataset dataset;
+
+    private EmployeeRepository employeeRepository;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        dataset = BenchmarkDataset.start(datasetSize);
+        employeeRepository = dataset.getBean(EmployeeRepository.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dataset.close();
+    }
+
+    @Benchmark
+    public Employee findByFullNameJPQLIndexed() {
+        int n = dataset.randomIndex();
+        return employeeRepository.findByFullNameJPQLIndexed("First" + n, "Last" + n);
+    }
+
+    @Benchmark
+    public Employee findByFullNameJPQLNamed() {
+        int n = dataset.randomIndex();
+        return employeeRepository.findByFullNameJPQLNamed("First" + n, "Last" + n);
+    }
+
+    @Benchmark
+    public Employee findByFullNameSQLIndexed() {
+        int n = dataset.randomIndex();
+        return employeeRepository.findByFullNameSQLIndexed("First" + n, "Last" + n);
+    }
+
+    @Benchmark
+    public Employee findByFullNameSQLNamed() {
+        int n = dataset.randomIndex();
+        return employeeRepository.findByFullNameSQLNamed("First" + n, "Last" + n);
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.benchmark;
+
+import com.example.model.Employee;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Jackson serialization of an {@code Employee} list, as written by the list endpoints, in each negotiable format.
+ * {@code writeGzip} adds the cost of the response compression; payload sizes are printed at the end of each trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeSerializationBenchmark {
+    @Param({"100", "10000"})
+    private int listSize;
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    private ObjectMapper objectMapper;
+
+    private List<Employee> employees;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        JsonFactory factory = switch (format) {
+            case "cbor" -> new CBORFactory();
+            case "smile" -> new SmileFactory();
+            default -> new JsonFactory();
+        };
+        objectMapper = new ObjectMapper(factory).findAndRegisterModules();
+
+        Instant updatedAt = Instant.now();
+        employees = LongStream.range(0, listSize)
+                .mapToObj(n -> {
+                    Employee employee = BenchmarkDataset.employee(n);
+                    employee.setId(n + 1);
+                    employee.setUpdatedAt(updatedAt);
+                    return employee;
+                })
+                .toList();
+    }
+
+    @TearDown(Level.Trial)
+    public void printPayloadSize() throws IOException {
+        System.out.printf("%n%s payload for %d employees: %d bytes, %d bytes gzipped%n",
+                format, listSize, write().length, writeGzip().length);
+    }
+
+    @Benchmark
+    public byte[] write() throws IOException {
+        return objectMapper.writeValueAsBytes(employees);
+    }
+
+    @Benchmark
+    public byte[] writeGzip() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            objectMapper.writeValue(gzip, employees);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.benchmark;
+
+import com.example.model.Employee;
+import com.example.model.EmployeeView;
+import com.example.service.EmployeeService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link EmployeeService} hot paths against a seeded H2 dataset.
+ * {@code getEmployeeById} goes through the id cache, so after warmup it measures cache hits;
+ * {@code saveEmployee} grows the table by one row per invocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeServiceBenchmark {
+    @Param({"1000", "10000"})
+    private int datasetSize;
+
+    private BenchmarkDataset dataset;
+
+    private EmployeeService employeeService;
+
+    private final AtomicLong nextEmployee = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setup() {
+        dataset = BenchmarkDataset.start(datasetSize);
+        employeeService = dataset.getBean(EmployeeService.class);
+        nextEmployee.set(datasetSize);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dataset.close();
+    }
+
+    @Benchmark
+    public Employee saveEmployee() {
+        return employeeService.saveEmployee(BenchmarkDataset.employee(nextEmployee.getAndIncrement()));
+    }
+
+    @Benchmark
+    public Optional<Employee> getEmployeeById() {
+        return employeeService.getEmployeeById(dataset.randomId());
+    }
+
+    // prefix of an email, e.g. "employee12" matches employee12@..., employee120@... and so on
+    @Benchmark
+    public List<EmployeeView> suggestEmployees() {
+        return employeeService.suggestEmployees("employee" + dataset.randomIndex() / 10, EmployeeService.DEFAULT_SUGGESTIONS);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<Employee> getAllEmployees() {
+        return employeeService.getAllEmployees();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<EmployeeView> getEmployeeViews() {
+        return employeeService.getEmployeeViews();
+    }
+}
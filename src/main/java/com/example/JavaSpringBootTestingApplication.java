@@ -1,13 +1,19 @@
 package com.example;
 
+import com.example.service.EmployeeImportCommand;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.ConfigurableApplicationContext;
 
 @SpringBootApplication
 public class JavaSpringBootTestingApplication {
 
 	public static void main(String[] args) {
-		SpringApplication.run(JavaSpringBootTestingApplication.class, args);
+		ConfigurableApplicationContext context = SpringApplication.run(JavaSpringBootTestingApplication.class, args);
+		// a one-off import is done once the context has started; the scheduler threads would otherwise keep the JVM alive
+		if (context.getBeanNamesForType(EmployeeImportCommand.class).length > 0) {
+			System.exit(SpringApplication.exit(context));
+		}
 	}
 
 }
@@ -0,0 +1,101 @@
+package com.example.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PostConstruct;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Local stand-in for replication under the {@code replica} profile: keeps a second H2 database in step with the
+ * primary by copying every table over each {@code employee.datasource.replica.sync-interval}, so the replica lags
+ * behind like a real one would.
+ * <p>
+ * On startup the replica is emptied and given the primary's schema and H2 linked tables onto the primary's tables.
+ * A sync replaces the replica's rows from those in one transaction, so its readers see the previous copy until it
+ * commits. Tables are copied whole, which only suits local data sets; against a real replica, leave
+ * {@code sync-interval} unset.
+ */
+public class H2ReplicaSync {
+    private static final String LINKED_SCHEMA = "PRIMARY_LINK";
+
+    private final HikariDataSource primary;
+
+    private final HikariDataSource replica;
+
+    private final List<String> tables = new ArrayList<>();
+
+    public H2ReplicaSync(HikariDataSource primary, HikariDataSource replica) {
+        this.primary = primary;
+        this.replica = replica;
+    }
+
+    @PostConstruct
+    void init() throws SQLException {
+        try (Connection source = primary.getConnection();
+             Connection target = connectReplica();
+             Statement sourceStatement = source.createStatement();
+             Statement targetStatement = target.createStatement()) {
+            targetStatement.execute("DROP ALL OBJECTS");
+            try (ResultSet script = sourceStatement.executeQuery("SCRIPT NODATA")) {
+                while (script.next()) {
+                    String sql = script.getString(1);
+                    // row counts and other comments
+                    if (!sql.startsWith("--")) {
+                        targetStatement.execute(sql);
+                    }
+                }
+            }
+            try (ResultSet result = sourceStatement.executeQuery("SELECT TABLE_NAME FROM INFORMATION_SCHEMA.TABLES " +
+                    "WHERE TABLE_SCHEMA = 'PUBLIC' AND TABLE_TYPE = 'BASE TABLE'")) {
+                while (result.next()) {
+                    tables.add(result.getString(1));
+                }
+            }
+            targetStatement.execute("CREATE SCHEMA " + LINKED_SCHEMA);
+            for (String table : tables) {
+                targetStatement.execute("CREATE LINKED TABLE " + LINKED_SCHEMA + ".\"" + table + "\"('org.h2.Driver', '" +
+                        primary.getJdbcUrl() + "', '" + primary.getUsername() + "', '" + nullToEmpty(primary.getPassword()) +
+                        "', 'PUBLIC', '" + table + "') READONLY");
+            }
+            if (!target.getAutoCommit()) {
+                target.commit();
+            }
+        }
+        sync();
+    }
+
+    @Scheduled(initialDelayString = "${employee.datasource.replica.sync-interval}",
+            fixedDelayString = "${employee.datasource.replica.sync-interval}")
+    public synchronized void sync() throws SQLException {
+        try (Connection target = connectReplica();
+             Statement statement = target.createStatement()) {
+            target.setAutoCommit(false);
+            try {
+                for (String table : tables) {
+                    statement.executeUpdate("DELETE FROM PUBLIC.\"" + table + "\"");
+                    statement.executeUpdate("INSERT INTO PUBLIC.\"" + table + "\" SELECT * FROM " + LINKED_SCHEMA + ".\"" + table + "\"");
+                }
+                target.commit();
+            } catch (SQLException e) {
+                target.rollback();
+                throw e;
+            }
+        }
+    }
+
+    // not through the replica pool, whose connections are read-only
+    private Connection connectReplica() throws SQLException {
+        return DriverManager.getConnection(replica.getJdbcUrl(), replica.getUsername(), nullToEmpty(replica.getPassword()));
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.config;
+
+import io.micrometer.core.annotation.Counted;
+import io.micrometer.core.aop.CountedAspect;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Makes {@code @Timed} and {@code @Counted} on service methods record into the meter registry.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    @Bean
+    public CountedMetricsAspect countedAspect(MeterRegistry meterRegistry) {
+        return new CountedMetricsAspect(new CountedAspect(meterRegistry));
+    }
+
+    /**
+     * Binds {@code @Counted} with explicit argument names and hands the call to Micrometer's {@link CountedAspect}.
+     * Registered directly, {@code CountedAspect}'s advice binds its annotation parameter by name, and Micrometer is
+     * compiled without {@code -parameters}, so Spring falls back to the deprecated debug-info lookup and warns.
+     */
+    @Aspect
+    public static class CountedMetricsAspect {
+        private final CountedAspect delegate;
+
+        CountedMetricsAspect(CountedAspect delegate) {
+            this.delegate = delegate;
+        }
+
+        @Around(value = "@annotation(counted)", argNames = "pjp,counted")
+        public Object count(ProceedingJoinPoint pjp, Counted counted) throws Throwable {
+            return delegate.interceptAndRecord(pjp, counted);
+        }
+    }
+}
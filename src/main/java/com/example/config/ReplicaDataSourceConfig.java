@@ -0,0 +1,69 @@
+package com.example.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Opt-in ({@code replica} profile) read/write split: read-only transactions run on a replica pool, all others on the
+ * primary pool, see {@link ReplicaRoutingDataSource}. Both pools take their connection settings from
+ * {@code spring.datasource}; {@code employee.datasource.replica.hikari.*} overrides them for the replica, e.g. its
+ * {@code jdbc-url}. Locally the replica is a second H2 database that {@link H2ReplicaSync} copies the primary into.
+ */
+@Configuration
+@Profile("replica")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConfigurationProperties("employee.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    // what JPA, JdbcTemplate and the transaction manager use
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica) {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource();
+        routing.setTargetDataSources(Map.of(
+                ReplicaRoutingDataSource.Target.PRIMARY, primary,
+                ReplicaRoutingDataSource.Target.REPLICA, replica));
+        routing.setDefaultTargetDataSource(primary);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    // after entityManagerFactory, which creates the primary's schema the replica copies
+    @Bean
+    @DependsOn("entityManagerFactory")
+    @ConditionalOnProperty("employee.datasource.replica.sync-interval")
+    public H2ReplicaSync h2ReplicaSync(@Qualifier("primaryDataSource") HikariDataSource primary,
+                                       @Qualifier("replicaDataSource") HikariDataSource replica) {
+        return new H2ReplicaSync(primary, replica);
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(@Value("${employee.datasource.replica.sticky-window:5s}") Duration window) {
+        return new ReadYourWritesFilter(window);
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} methods, such as the periodic rebuild of the employee membership filter.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,74 @@
+package com.example.config;
+
+import com.example.repository.EmployeeIdGenerator;
+import com.example.repository.ShardedEmployeeRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.DatabasePopulatorUtils;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Opt-in ({@code sharded} profile) employee store partitioned over the databases listed in
+ * {@code employee.sharding.shards}, served under {@code /api/sharded/employees}. It is separate from the JPA
+ * repository and its database, which the rest of the API keeps using.
+ * <p>
+ * The shard pools are not {@code DataSource} beans, so they don't compete with the application's own; their
+ * metrics are published as {@code hikaricp.*} with {@code pool=employees-shard-<n>}.
+ */
+@Configuration
+@Profile("sharded")
+public class ShardingConfig {
+    private final List<HikariDataSource> shards = new ArrayList<>();
+
+    @Bean
+    public ShardedEmployeeRepository shardedEmployeeRepository(@Value("${employee.sharding.shards}") List<String> urls,
+                                                               @Value("${employee.sharding.username:sa}") String username,
+                                                               @Value("${employee.sharding.password:}") String password,
+                                                               @Value("${employee.sharding.pool-size:10}") int poolSize,
+                                                               @Value("${employee.sharding.worker-id:0}") int workerId,
+                                                               ExecutorService shardQueryExecutor,
+                                                               MeterRegistry meterRegistry) {
+        ResourceDatabasePopulator schema = new ResourceDatabasePopulator(new ClassPathResource("employee-shard-schema.sql"));
+        List<DataSource> dataSources = new ArrayList<>(urls.size());
+        for (String url : urls) {
+            url = url.strip();
+            HikariDataSource shard = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .url(url)
+                    .username(username)
+                    .password(password)
+                    .build();
+            shard.setPoolName("employees-shard-" + shards.size());
+            shard.setMaximumPoolSize(poolSize);
+            shard.setMetricRegistry(meterRegistry);
+            shards.add(shard);
+            DatabasePopulatorUtils.execute(schema, shard);
+            dataSources.add(shard);
+        }
+        return new ShardedEmployeeRepository(dataSources, new EmployeeIdGenerator(workerId), shardQueryExecutor);
+    }
+
+    // scatter-gather queries block on JDBC; a virtual thread per shard query costs next to nothing
+    @Bean(destroyMethod = "close")
+    public ExecutorService shardQueryExecutor() {
+        return Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @PreDestroy
+    void closeShards() {
+        shards.forEach(HikariDataSource::close);
+    }
+}
@@ -1,35 +1,255 @@
 package com.example.controller;
 
 import com.example.model.Employee;
+import com.example.model.EmployeeBatchResult;
+import com.example.model.EmployeeBulkResult;
+import com.example.model.EmployeeBulkUpdate;
+import com.example.model.EmployeeChangePage;
+import com.example.model.EmployeeFieldsPage;
+import com.example.model.EmployeeImport;
+import com.example.model.EmployeeIngestTicket;
+import com.example.model.EmployeeLookupResult;
+import com.example.model.EmployeePage;
+import com.example.model.EmployeePatch;
+import com.example.model.EmployeeRangeVersion;
+import com.example.model.EmployeeVersion;
+import com.example.model.EmployeeView;
+import com.example.repository.EmployeeFieldsRepository;
+import com.example.service.EmployeeChangeBroadcaster;
+import com.example.service.EmployeeCsvImporter;
+import com.example.service.EmployeeIngestQueue;
 import com.example.service.EmployeeService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.accept.ContentNegotiationManager;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.channels.Channels;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.ToLongFunction;
+import java.util.Set;
+import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/employees")
+@Profile("!reactive")
+// not loaded by the one-off import, which runs with web-application-type=none
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class EmployeeController {
+    private static final MediaType APPLICATION_SMILE = new MediaType("application", "x-jackson-smile");
 
     @Autowired
     private EmployeeService employeeService;
 
+    @Autowired
+    private EmployeeIngestQueue employeeIngestQueue;
+
+    @Autowired
+    private EmployeeChangeBroadcaster employeeChangeBroadcaster;
+
+    @Autowired
+    private EmployeeCsvImporter employeeCsvImporter;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ContentNegotiationManager contentNegotiationManager;
+
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
     public Employee createEmployee(@RequestBody Employee employee) {
         return employeeService.saveEmployee(employee);
     }
 
+    @PostMapping("batch")
+    public List<EmployeeBatchResult> createEmployees(@RequestBody List<Employee> employees) {
+        return employeeService.saveEmployees(employees);
+    }
+
+    // asynchronous create: queued for the background writer, poll the returned ticket for the outcome
+    @PostMapping("ingest")
+    public ResponseEntity<EmployeeIngestTicket> ingestEmployee(@RequestBody Employee employee) {
+        EmployeeIngestTicket ticket = employeeIngestQueue.submit(employee);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/employees/ingest/" + ticket.getId()))
+                .body(ticket);
+    }
+
+    @GetMapping("ingest/{ticketId}")
+    public ResponseEntity<EmployeeIngestTicket> getIngestTicket(@PathVariable("ticketId") String ticketId) {
+        return employeeIngestQueue.getTicket(ticketId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    // streamed CSV import; re-posting the same file with the id of a failed import resumes it
+    @PostMapping(value = "import", consumes = {"text/csv", MediaType.TEXT_PLAIN_VALUE})
+    public EmployeeImport importEmployees(@RequestParam(value = "id", required = false) String importId,
+                                          InputStream body) throws IOException {
+        String id = importId != null ? importId : UUID.randomUUID().toString();
+        return employeeCsvImporter.importCsv(id, Channels.newChannel(body));
+    }
+
+    @GetMapping("import/{importId}")
+    public ResponseEntity<EmployeeImport> getImport(@PathVariable("importId") String importId) {
+        return employeeCsvImporter.getImport(importId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @PostMapping("bulk-update")
+    public EmployeeBulkResult updateEmployees(@RequestBody EmployeeBulkUpdate update) {
+        return employeeService.updateEmployees(update);
+    }
+
+    @PostMapping("bulk-delete")
+    public EmployeeBulkResult deleteEmployees(@RequestBody List<Long> employeeIds) {
+        return employeeService.deleteEmployees(employeeIds);
+    }
+
+    // multi-get, e.g. ?ids=1,2,3; one result per id in the requested order, missing ones marked NOT_FOUND
+    @GetMapping(params = "ids")
+    public List<EmployeeLookupResult> getEmployeesByIds(@RequestParam("ids") List<Long> employeeIds) {
+        return employeeService.getEmployeesByIds(employeeIds);
+    }
+
+    // multi-get for id lists too long for a query string
+    @PostMapping("_mget")
+    public List<EmployeeLookupResult> getEmployeesByIdsPost(@RequestBody List<Long> employeeIds) {
+        return employeeService.getEmployeesByIds(employeeIds);
+    }
+
     @GetMapping
-    public List<Employee> getAllEmployees() {
-        return employeeService.getAllEmployees();
+    public ResponseEntity<List<EmployeeView>> getAllEmployees(WebRequest request) {
+        if (isConditional(request) && request.checkNotModified(eTag(employeeService.getEmployeesVersion()))) {
+            return null;
+        }
+        List<EmployeeView> employees = employeeService.getEmployeeViews();
+        return ResponseEntity.ok()
+                .eTag(eTag(employees, EmployeeView::getId, EmployeeView::getVersion, false))
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(employees);
+    }
+
+    // only the selected columns are queried, e.g. ?fields=id,email
+    @GetMapping(params = "fields")
+    public List<Map<String, Object>> getAllEmployees(@RequestParam("fields") Set<String> fields) {
+        return employeeService.getEmployeeFields(fields);
+    }
+
+    // keyset paged like /page: pass nextCursor back as `after`
+    @GetMapping("search")
+    public EmployeeFieldsPage searchEmployees(@RequestParam(value = "firstName", required = false) String firstName,
+                                             @RequestParam(value = "lastName", required = false) String lastName,
+                                             @RequestParam(value = "fields", required = false) Set<String> fields,
+                                             @RequestParam(value = "after", defaultValue = "0") long after,
+                                             @RequestParam(value = "limit", defaultValue = "" + EmployeeService.DEFAULT_PAGE_SIZE) int limit) {
+        return employeeService.searchEmployees(firstName, lastName,
+                fields != null ? fields : EmployeeFieldsRepository.FIELDS, after, limit);
+    }
+
+    @GetMapping("suggest")
+    public List<EmployeeView> suggestEmployees(@RequestParam("q") String query,
+                                               @RequestParam(value = "limit", defaultValue = "" + EmployeeService.DEFAULT_SUGGESTIONS) int limit) {
+        return employeeService.suggestEmployees(query, limit);
+    }
+
+    @GetMapping("page")
+    public ResponseEntity<EmployeePage> getEmployeesPage(@RequestParam(value = "after", defaultValue = "0") long after,
+                                                         @RequestParam(value = "limit", defaultValue = "" + EmployeeService.DEFAULT_PAGE_SIZE) int limit,
+                                                         WebRequest request) {
+        if (isConditional(request) && request.checkNotModified(eTag(employeeService.getEmployeesPageVersion(after, limit)))) {
+            return null;
+        }
+        EmployeePage page = employeeService.getEmployeesPage(after, limit);
+        return ResponseEntity.ok()
+                .eTag(eTag(page.getEmployees(), Employee::getId, Employee::getVersion, page.getNextCursor() != null))
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(page);
+    }
+
+    // incremental sync: the changes committed after sequence number `since`, oldest first; deletes are tombstones
+    @GetMapping("changes")
+    public EmployeeChangePage getChanges(@RequestParam(value = "since", defaultValue = "0") long since,
+                                         @RequestParam(value = "limit", defaultValue = "" + EmployeeService.DEFAULT_PAGE_SIZE) int limit) {
+        return employeeService.getChanges(since, limit);
+    }
+
+    // the same feed pushed as Server-Sent Events; a reconnecting EventSource resumes from its Last-Event-ID
+    @GetMapping(value = "changes/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(@RequestParam(value = "since", defaultValue = "0") long since,
+                                    @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return employeeChangeBroadcaster.subscribe(lastEventId != null ? lastEventId : since);
+    }
+
+    // newline-delimited JSON, written row by row as the database cursor advances
+    @GetMapping(value = "export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportEmployees() {
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+                generator.setRootValueSeparator(null);
+                employeeService.exportEmployees(employee -> {
+                    try {
+                        generator.writeObject(employee);
+                        generator.writeRaw('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
     @GetMapping("{id}")
-    public ResponseEntity<Employee> getEmployeeById(@PathVariable("id") long employeeId) {
+    public ResponseEntity<Employee> getEmployeeById(@PathVariable("id") long employeeId, NativeWebRequest request)
+            throws HttpMediaTypeNotAcceptableException {
+        String format = format(request);
+        // revalidation is answered from the version alone, without reading or serializing the row
+        if (isConditional(request)) {
+            Optional<EmployeeVersion> version = employeeService.getEmployeeVersion(employeeId);
+            if (version.isPresent() && request.checkNotModified(eTag(version.get().getVersion(), format), lastModified(version.get()))) {
+                return null;
+            }
+        }
         return employeeService.getEmployeeById(employeeId)
+                .map(employee -> {
+                    ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                            .eTag(eTag(employee.getVersion(), format))
+                            .varyBy(HttpHeaders.ACCEPT);
+                    if (employee.getUpdatedAt() != null) {
+                        response.lastModified(employee.getUpdatedAt());
+                    }
+                    return response.body(employee);
+                })
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @GetMapping(params = "email")
+    public ResponseEntity<Employee> getEmployeeByEmail(@RequestParam("email") String email) {
+        return employeeService.getEmployeeByEmail(email)
                 .map(ResponseEntity::ok)
                 .orElseGet(() -> ResponseEntity.notFound().build());
     }
@@ -37,9 +257,16 @@ public class EmployeeController {
     @PutMapping("{id}")
     public Employee updateEmployee(@PathVariable("id") long employeeId,
                                    @RequestBody Employee employee) {
+        employee.setId(employeeId);
         return employeeService.updateEmployee(employee);
     }
 
+    @PatchMapping("{id}")
+    public Employee patchEmployee(@PathVariable("id") long employeeId,
+                                  @RequestBody EmployeePatch patch) {
+        return employeeService.patchEmployee(employeeId, patch);
+    }
+
     @DeleteMapping("{id}")
     public ResponseEntity<String> deleteEmployee(@PathVariable("id") long employeeId) {
 
@@ -48,4 +275,54 @@ public class EmployeeController {
         return new ResponseEntity<>("Employee deleted successfully!.", HttpStatus.OK);
 
     }
+
+    private static boolean isConditional(WebRequest request) {
+        return request.getHeader(HttpHeaders.IF_NONE_MATCH) != null || request.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null;
+    }
+
+    // strong validators: the version changes on every write of the employee, and a strong tag names one exact
+    // representation, so CBOR and Smile get their own suffix; responses vary by Accept, so caches keep one entry
+    // per format and revalidate each against its own tag
+    private static String eTag(long version, String format) {
+        return "\"" + version + format + "\"";
+    }
+
+    // ETag suffix of the format content negotiation picks: the first producible type the client accepts,
+    // JSON before the binary formats as in the converter order
+    private String format(NativeWebRequest request) throws HttpMediaTypeNotAcceptableException {
+        for (MediaType accepted : contentNegotiationManager.resolveMediaTypes(request)) {
+            if (accepted.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                return "";
+            }
+            if (accepted.isCompatibleWith(MediaType.APPLICATION_CBOR)) {
+                return "-cbor";
+            }
+            if (accepted.isCompatibleWith(APPLICATION_SMILE)) {
+                return "-smile";
+            }
+        }
+        return "";
+    }
+
+    private static String eTag(EmployeeRangeVersion version) {
+        return eTag(version.getCount(), version.getMaxId(), version.getVersionSum(), version.isHasNext());
+    }
+
+    // must agree with EmployeeRepository.findRangeVersion over the same rows
+    private static <T> String eTag(List<T> employees, ToLongFunction<T> id, ToLongFunction<T> version, boolean hasNext) {
+        return eTag(employees.size(),
+                employees.stream().mapToLong(id).max().orElse(0),
+                employees.stream().mapToLong(version).sum(),
+                hasNext);
+    }
+
+    // weak: Tomcat doesn't gzip responses carrying a strong ETag, and lists are the responses worth compressing;
+    // a page followed by more rows is tagged apart from the same rows as the last page, whose nextCursor is null
+    private static String eTag(long count, long maxId, long versionSum, boolean hasNext) {
+        return "W/\"" + count + "-" + maxId + "-" + versionSum + (hasNext ? "-next" : "") + "\"";
+    }
+
+    private static long lastModified(EmployeeVersion version) {
+        return version.getUpdatedAt() != null ? version.getUpdatedAt().toEpochMilli() : -1;
+    }
 }
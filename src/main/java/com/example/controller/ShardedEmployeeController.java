@@ -0,0 +1,74 @@
+package com.example.controller;
+
+import com.example.model.Employee;
+import com.example.model.EmployeePage;
+import com.example.service.EmployeeService;
+import com.example.service.ShardedEmployeeService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * The employee API over the sharded store, active with the {@code sharded} profile.
+ * Ids are 63-bit: JavaScript clients must read them as strings or BigInt, they don't fit in a double.
+ */
+@RestController
+@RequestMapping("/api/sharded/employees")
+@Profile("sharded")
+public class ShardedEmployeeController {
+
+    @Autowired
+    private ShardedEmployeeService shardedEmployeeService;
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public Employee createEmployee(@RequestBody Employee employee) {
+        return shardedEmployeeService.saveEmployee(employee);
+    }
+
+    // keyset pagination merged across the shards, in id order
+    @GetMapping("page")
+    public EmployeePage getEmployeesPage(@RequestParam(value = "after", defaultValue = "0") long after,
+                                         @RequestParam(value = "limit", defaultValue = "" + EmployeeService.DEFAULT_PAGE_SIZE) int limit) {
+        return shardedEmployeeService.getEmployeesPage(after, limit);
+    }
+
+    @GetMapping("search")
+    public List<Employee> searchEmployees(@RequestParam(value = "firstName", required = false) String firstName,
+                                          @RequestParam(value = "lastName", required = false) String lastName,
+                                          @RequestParam(value = "after", defaultValue = "0") long after,
+                                          @RequestParam(value = "limit", defaultValue = "" + EmployeeService.DEFAULT_PAGE_SIZE) int limit) {
+        return shardedEmployeeService.searchEmployees(firstName, lastName, after, limit);
+    }
+
+    @GetMapping("{id}")
+    public ResponseEntity<Employee> getEmployeeById(@PathVariable("id") long employeeId) {
+        return shardedEmployeeService.getEmployeeById(employeeId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @GetMapping(params = "email")
+    public ResponseEntity<Employee> getEmployeeByEmail(@RequestParam("email") String email) {
+        return shardedEmployeeService.getEmployeeByEmail(email)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @PutMapping("{id}")
+    public Employee updateEmployee(@PathVariable("id") long employeeId,
+                                   @RequestBody Employee employee) {
+        employee.setId(employeeId);
+        return shardedEmployeeService.updateEmployee(employee);
+    }
+
+    @DeleteMapping("{id}")
+    public ResponseEntity<String> deleteEmployee(@PathVariable("id") long employeeId) {
+        shardedEmployeeService.deleteEmployee(employeeId);
+        return new ResponseEntity<>("Employee deleted successfully!.", HttpStatus.OK);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.exception;
+
+public class IngestQueueClosedException extends RuntimeException{
+    public IngestQueueClosedException(String message){
+        super(message);
+    }
+}
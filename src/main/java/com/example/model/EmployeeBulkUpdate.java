@@ -0,0 +1,25 @@
+package com.example.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Renames every employee matching the given names: {@code firstName}/{@code lastName} select the employees
+ * (exact match, {@code null} matches any), {@code newFirstName}/{@code newLastName} are the new values
+ * ({@code null} keeps the current value).
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class EmployeeBulkUpdate {
+    private String firstName;
+
+    private String lastName;
+
+    private String newFirstName;
+
+    private String newLastName;
+}
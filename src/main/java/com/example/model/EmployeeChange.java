@@ -0,0 +1,50 @@
+package com.example.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * One entry of the employee change log, written in the same transaction as the change itself.
+ * An {@code UPSERT} carries the employee as it was after the change; a {@code DELETE} is a tombstone with only the id.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Table(name = "employee_changes")
+public class EmployeeChange {
+    public enum Type {
+        UPSERT,
+        DELETE
+    }
+
+    // assigned from EmployeeChangeCounter: gapless and in commit order, so "everything after seq" is complete
+    @Id
+    private long seq;
+
+    @Column(name = "employee_id", nullable = false)
+    private long employeeId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Type type;
+
+    @Column(name = "first_name")
+    private String firstName;
+
+    @Column(name = "last_name")
+    private String lastName;
+
+    private String email;
+
+    private Long version;
+
+    @Column(name = "changed_at", nullable = false)
+    private Instant changedAt;
+}
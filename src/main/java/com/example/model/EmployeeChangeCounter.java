@@ -0,0 +1,28 @@
+package com.example.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The single row holding the last assigned change sequence number. A transaction locks it when it appends to the
+ * change log and keeps the lock until it commits, so sequence numbers are handed out in commit order.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "employee_change_counter")
+public class EmployeeChangeCounter {
+    public static final int ID = 1;
+
+    @Id
+    private int id;
+
+    @Column(name = "last_seq", nullable = false)
+    private long lastSeq;
+}
@@ -0,0 +1,23 @@
+package com.example.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of the employee change feed.
+ * {@code nextSince} is the sequence number to pass as {@code since} for the following changes; it is the same
+ * {@code since} when there were none yet, so a consumer can keep polling with it.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class EmployeeChangePage {
+    private List<EmployeeChange> changes;
+
+    private long nextSince;
+}
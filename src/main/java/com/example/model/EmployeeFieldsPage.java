@@ -0,0 +1,24 @@
+package com.example.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One page of a keyset-paginated, field-selecting employee search.
+ * {@code nextCursor} is the id to pass as {@code after} to fetch the next page, or {@code null} on the last page;
+ * it is set whether or not {@code id} is one of the selected fields.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class EmployeeFieldsPage {
+    private List<Map<String, Object>> employees;
+
+    private Long nextCursor;
+}
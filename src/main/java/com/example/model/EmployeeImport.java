@@ -0,0 +1,72 @@
+package com.example.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Progress of a CSV import, saved in the transaction of every committed chunk: after a crash, re-running the import
+ * with the same id skips the first {@code committedBytes} of the file and carries on from there.
+ * The throughput and rejected row samples describe the current run only and are not stored.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder(toBuilder = true)
+@Entity
+@Table(name = "employee_imports")
+public class EmployeeImport {
+    public enum Status {
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    @Id
+    private String id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Status status;
+
+    // end of the last committed row; a resumed import starts reading here
+    @Column(name = "committed_bytes", nullable = false)
+    private long committedBytes;
+
+    @Column(name = "committed_lines", nullable = false)
+    private long committedLines;
+
+    @Column(nullable = false)
+    private long imported;
+
+    @Column(nullable = false)
+    private long duplicates;
+
+    @Column(nullable = false)
+    private long rejected;
+
+    @Column(name = "started_at", nullable = false)
+    private Instant startedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    private String message;
+
+    @Transient
+    private double rowsPerSecond;
+
+    @Transient
+    private double megabytesPerSecond;
+
+    // "line N: reason" for the first rejected rows of this run
+    @Transient
+    @Builder.Default
+    private List<String> rejectedRows = new ArrayList<>();
+}
@@ -0,0 +1,31 @@
+package com.example.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * State of an asynchronous create: {@code QUEUED} until the background writer has stored (or rejected) the employee.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class EmployeeIngestTicket {
+    public enum Status {
+        QUEUED,
+        CREATED,
+        DUPLICATE,
+        INVALID,
+        FAILED
+    }
+
+    private String id;
+
+    private Status status;
+
+    private Employee employee;
+
+    private String message;
+}
@@ -0,0 +1,26 @@
+package com.example.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of one id of a multi-get, in the position it was requested; {@code employee} is null when not found.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class EmployeeLookupResult {
+    public enum Status {
+        FOUND,
+        NOT_FOUND
+    }
+
+    private long id;
+
+    private Status status;
+
+    private Employee employee;
+}
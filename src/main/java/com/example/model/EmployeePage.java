@@ -0,0 +1,22 @@
+package com.example.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated employee listing.
+ * {@code nextCursor} is the id to pass as {@code after} to fetch the next page, or {@code null} on the last page.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class EmployeePage {
+    private List<Employee> employees;
+
+    private Long nextCursor;
+}
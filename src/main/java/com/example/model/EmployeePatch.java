@@ -0,0 +1,24 @@
+package com.example.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Partial update of an employee: {@code null} fields are left unchanged.
+ * When {@code version} is set the update only applies if the employee is still at that version.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class EmployeePatch {
+    private String firstName;
+
+    private String lastName;
+
+    private String email;
+
+    private Long version;
+}
@@ -0,0 +1,16 @@
+package com.example.model;
+
+/**
+ * Aggregate over a range of employees that changes whenever one of them is created, updated or deleted:
+ * inserts raise the max id, updates raise the version sum and deletes lower the count. {@code hasNext} changes when
+ * a row is inserted after a full last page, which gives that page a next cursor.
+ */
+public interface EmployeeRangeVersion {
+    long getCount();
+
+    long getMaxId();
+
+    long getVersionSum();
+
+    boolean isHasNext();
+}
@@ -0,0 +1,21 @@
+package com.example.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Version and last modification time of an employee, enough to answer a conditional GET without reading the row.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class EmployeeVersion {
+    private long version;
+
+    private Instant updatedAt;
+}
@@ -0,0 +1,26 @@
+package com.example.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Read-only projection of an employee, selected straight into this class with a JPQL constructor expression.
+ * Unlike a loaded {@link Employee} it is never managed, so no persistence-context snapshot is kept for it.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class EmployeeView {
+    private long id;
+
+    private String firstName;
+
+    private String lastName;
+
+    private String email;
+
+    private long version;
+}
@@ -0,0 +1,39 @@
+package com.example.repository;
+
+import com.example.model.EmployeeChange;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface EmployeeChangeRepository extends JpaRepository<EmployeeChange, Long> {
+    // row lock on the counter, held until the calling transaction ends
+    @Query(value = "select last_seq from employee_change_counter where id = 1 for update", nativeQuery = true)
+    long lockLastSeq();
+
+    // committed value, without the lock
+    @Query(value = "select last_seq from employee_change_counter where id = 1", nativeQuery = true)
+    long findLastSeq();
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "update employee_change_counter set last_seq = :lastSeq where id = 1", nativeQuery = true)
+    int updateLastSeq(@Param("lastSeq") long lastSeq);
+
+    // one UPSERT per existing employee, numbered after :after in id order, copied from the rows as this transaction sees them
+    @Modifying(flushAutomatically = true)
+    @Query(value = "insert into employee_changes (seq, employee_id, type, first_name, last_name, email, version, changed_at) "
+            + "select :after + row_number() over (order by id), id, 'UPSERT', first_name, last_name, email, version, :changedAt "
+            + "from employees where id in (:ids)", nativeQuery = true)
+    int insertUpserts(@Param("after") long after, @Param("ids") Collection<Long> ids, @Param("changedAt") Instant changedAt);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<EmployeeChange> findBySeqGreaterThanOrderBySeqAsc(long seq, Pageable pageable);
+}
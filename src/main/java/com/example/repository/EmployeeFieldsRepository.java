@@ -0,0 +1,23 @@
+package com.example.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Field-selecting reads: only the requested columns are queried, and rows come back as maps of field name to value.
+ */
+public interface EmployeeFieldsRepository {
+    List<String> FIELDS = List.of("id", "firstName", "lastName", "email", "version");
+
+    /**
+     * Employees with an id greater than {@code after} in id order, optionally filtered by exact first and last name.
+     *
+     * @param fields    fields to select in result order, each one of {@link #FIELDS}
+     * @param firstName first name to match, or {@code null} for any
+     * @param lastName  last name to match, or {@code null} for any
+     * @param after     keyset cursor, {@code 0} to start from the beginning
+     * @param limit     maximum number of rows, or {@code null} for all
+     */
+    List<Map<String, Object>> findFields(Collection<String> fields, String firstName, String lastName, long after, Integer limit);
+}
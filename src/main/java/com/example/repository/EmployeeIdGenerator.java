@@ -0,0 +1,55 @@
+package com.example.repository;
+
+import java.time.Instant;
+
+/**
+ * Snowflake-style 64-bit ids, unique across shards and application instances without coordination:
+ * 41 bits of milliseconds since {@link #EPOCH}, 10 bits of worker id, 12 bits of per-millisecond sequence.
+ * Ids grow with time, so ordering by id is close to ordering by creation.
+ * <p>
+ * Every instance needs its own worker id. A clock moving backwards doesn't produce duplicates: the generator keeps
+ * counting from the last timestamp it used until the clock catches up.
+ */
+public class EmployeeIdGenerator {
+    public static final Instant EPOCH = Instant.parse("2024-01-01T00:00:00Z");
+
+    private static final int WORKER_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    public static final int MAX_WORKER_ID = (1 << WORKER_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final long workerId;
+
+    private long lastTimestamp = -1;
+
+    private long sequence;
+
+    public EmployeeIdGenerator(int workerId) {
+        if (workerId < 0 || workerId > MAX_WORKER_ID) {
+            throw new IllegalArgumentException("Worker id must be between 0 and " + MAX_WORKER_ID);
+        }
+        this.workerId = workerId;
+    }
+
+    public synchronized long nextId() {
+        long timestamp = Math.max(currentTimestamp(), lastTimestamp);
+        if (timestamp == lastTimestamp) {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0) {
+                // 4096 ids in this millisecond already: move on to the next one
+                timestamp = lastTimestamp + 1;
+                while (currentTimestamp() < timestamp) {
+                    Thread.onSpinWait();
+                }
+            }
+        } else {
+            sequence = 0;
+        }
+        lastTimestamp = timestamp;
+        return (timestamp << (WORKER_BITS + SEQUENCE_BITS)) | (workerId << SEQUENCE_BITS) | sequence;
+    }
+
+    private static long currentTimestamp() {
+        return System.currentTimeMillis() - EPOCH.toEpochMilli();
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.repository;
+
+import com.example.model.EmployeeImport;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface EmployeeImportRepository extends JpaRepository<EmployeeImport, String> {
+}
@@ -1,15 +1,132 @@
 package com.example.repository;
 
+import com.example.config.CacheConfig;
 import com.example.model.Employee;
+import com.example.model.EmployeeKey;
+import com.example.model.EmployeeRangeVersion;
+import com.example.model.EmployeeVersion;
+import com.example.model.EmployeeView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
-public interface EmployeeRepository extends JpaRepository<Employee, Long> {
+public interface EmployeeRepository extends JpaRepository<Employee, Long>, EmployeeFieldsRepository {
+    // read-through cached; EmployeeService evicts on every write. The cache is shared by all clients, so misses
+    // load in a read-write transaction, which the replica profile never routes to a possibly lagging replica:
+    // otherwise a stale row could be cached and served to a client that has just written it
+    @Override
+    @Transactional
+    @Cacheable(cacheNames = CacheConfig.EMPLOYEES_BY_ID, key = "#p0", unless = "#result == null")
+    Optional<Employee> findById(Long id);
+
+    // read-through cached, loaded from the primary like findById
+    @Transactional
+    @Cacheable(cacheNames = CacheConfig.EMPLOYEES_BY_EMAIL, key = "#p0", unless = "#result == null")
     Optional<Employee> findByEmail(String email);
 
+    // the multi-get puts what it loads in the id cache, so it reads the primary too
+    @Override
+    @Transactional
+    List<Employee> findAllById(Iterable<Long> ids);
+
+    // duplicate check for a whole batch of emails in a single IN query
+    @Query("select e.email from Employee e where e.email in :emails")
+    Set<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    @Query("select e.id from Employee e where e.id in :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    // all employees as unmanaged views: no entity instances or dirty-checking snapshots are created
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("select new com.example.model.EmployeeView(e.id, e.firstName, e.lastName, e.email, e.version) from Employee e order by e.id")
+    List<EmployeeView> findAllViews();
+
+    // keyset pagination: seeks past the cursor on the primary key instead of using OFFSET
+    List<Employee> findByIdGreaterThanOrderByIdAsc(long id, Pageable pageable);
+
+    // version-only read for conditional GETs
+    @Query("select new com.example.model.EmployeeVersion(e.version, e.updatedAt) from Employee e where e.id = :id")
+    Optional<EmployeeVersion> findVersionById(@Param("id") long id);
+
+    // aggregate over the same rows as findByIdGreaterThanOrderByIdAsc(after, limit), read from the primary key range only;
+    // hasNext tells whether a row follows them, i.e. whether the page has a next cursor
+    @Query(value = "select count(*) as \"count\", coalesce(max(id), 0) as \"maxId\", coalesce(sum(version), 0) as \"versionSum\", " +
+            "exists (select 1 from employees where id > :after order by id offset :limit rows) as \"hasNext\" " +
+            "from (select id, version from employees where id > :after order by id limit :limit)", nativeQuery = true)
+    EmployeeRangeVersion findRangeVersion(@Param("after") long after, @Param("limit") int limit);
+
+    // full replacement in a single statement, deliberately without a version check: the last writer wins;
+    // returns the number of rows updated (0 or 1)
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Employee e set e.firstName = :firstName, e.lastName = :lastName, e.email = :email, " +
+            "e.version = e.version + 1, e.updatedAt = :updatedAt where e.id = :id")
+    int replace(@Param("id") long id, @Param("firstName") String firstName, @Param("lastName") String lastName,
+                @Param("email") String email, @Param("updatedAt") Instant updatedAt);
+
+    // partial update in a single statement: null arguments keep the current value, and nothing changes unless
+    // the row is still at the expected version; returns the number of rows updated (0 or 1)
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Employee e set e.firstName = coalesce(:firstName, e.firstName), e.lastName = coalesce(:lastName, e.lastName), " +
+            "e.email = coalesce(:email, e.email), e.version = e.version + 1, e.updatedAt = :updatedAt where e.id = :id and e.version = :version")
+    int patch(@Param("id") long id, @Param("firstName") String firstName, @Param("lastName") String lastName,
+              @Param("email") String email, @Param("version") long version, @Param("updatedAt") Instant updatedAt);
+
+    // ids of the employees matching the given names, null matching any; served by the full-name index
+    @Query("select e.id from Employee e where (:firstName is null or e.firstName = :firstName) " +
+            "and (:lastName is null or e.lastName = :lastName) order by e.id")
+    List<Long> findIdsByName(@Param("firstName") String firstName, @Param("lastName") String lastName);
+
+    // views of the given employees, e.g. to refresh derived state after a bulk update
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("select new com.example.model.EmployeeView(e.id, e.firstName, e.lastName, e.email, e.version) from Employee e where e.id in :ids")
+    List<EmployeeView> findViewsByIds(@Param("ids") Collection<Long> ids);
+
+    // set-based rename of the given employees in one statement; null arguments keep the current value
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Employee e set e.firstName = coalesce(:firstName, e.firstName), e.lastName = coalesce(:lastName, e.lastName), " +
+            "e.version = e.version + 1, e.updatedAt = :updatedAt where e.id in :ids")
+    int updateNamesByIds(@Param("ids") Collection<Long> ids, @Param("firstName") String firstName, @Param("lastName") String lastName,
+                         @Param("updatedAt") Instant updatedAt);
+
+    // set-based delete in one statement, unlike deleteById which selects the entity before removing it
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Employee e where e.id in :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+
+    // streams every row in id order, reading from the cursor in fetch-size chunks; must be consumed inside a transaction
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select e from Employee e order by e.id")
+    Stream<Employee> streamAll();
+
+    // id and email columns of every row, streamed like streamAll but without loading entities
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select new com.example.model.EmployeeKey(e.id, e.email) from Employee e")
+    Stream<EmployeeKey> streamAllKeys();
+
     // custom query using JPQL with index params
     @Query("select e from Employee e where e.firstName = ?1 and e.lastName = ?2")
     Employee findByFullNameJPQLIndexed(String firstName, String lastName);
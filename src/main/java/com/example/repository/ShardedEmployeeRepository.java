@@ -0,0 +1,286 @@
+package com.example.repository;
+
+import com.example.model.Employee;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * Employees partitioned over several databases by a hash of their id, with plain JDBC.
+ * <p>
+ * Ids come from an {@link EmployeeIdGenerator}, so they are unique without a shared sequence. Lookups by id go to
+ * one shard; pages and name searches query every shard in parallel and merge the results in id order. Email
+ * uniqueness is kept by a directory, {@code employee_emails}, partitioned by a hash of the email: claiming the email
+ * there is what makes a create or email change win or lose.
+ * <p>
+ * A write touches two shards without a distributed transaction. Each step is undone if the next one fails, and a
+ * claim left behind by a crash in between is taken over once it is {@link #STALE_CLAIM_AGE} old and its employee
+ * doesn't hold the email. The shard count is fixed: adding a shard moves most rows.
+ */
+public class ShardedEmployeeRepository {
+    // an in-flight create claims the email before inserting the row; don't mistake that for a leftover
+    public static final Duration STALE_CLAIM_AGE = Duration.ofMinutes(1);
+
+    private static final String COLUMNS = "id, first_name, last_name, email, version, updated_at";
+
+    private static final RowMapper<Employee> EMPLOYEE = (rs, rowNum) -> Employee.builder()
+            .id(rs.getLong("id"))
+            .firstName(rs.getString("first_name"))
+            .lastName(rs.getString("last_name"))
+            .email(rs.getString("email"))
+            .version(rs.getLong("version"))
+            .updatedAt(rs.getTimestamp("updated_at").toInstant())
+            .build();
+
+    private final List<JdbcTemplate> shards;
+
+    private final EmployeeIdGenerator idGenerator;
+
+    private final Executor executor;
+
+    public ShardedEmployeeRepository(List<DataSource> dataSources, EmployeeIdGenerator idGenerator, Executor executor) {
+        this.shards = dataSources.stream().map(JdbcTemplate::new).toList();
+        this.idGenerator = idGenerator;
+        this.executor = executor;
+    }
+
+    public int shardCount() {
+        return shards.size();
+    }
+
+    public int shardOf(long id) {
+        // ids share their high bits for a whole millisecond; mix them so consecutive ids spread evenly
+        long hash = id * 0x9E3779B97F4A7C15L;
+        return Math.floorMod(hash ^ (hash >>> 32), shards.size());
+    }
+
+    public int emailShardOf(String email) {
+        return Math.floorMod(email.hashCode(), shards.size());
+    }
+
+    /**
+     * Inserts the employee under a new id.
+     *
+     * @throws DuplicateKeyException if another employee has the email
+     */
+    public Employee insert(Employee employee) {
+        Employee newEmployee = employee.toBuilder()
+                .id(idGenerator.nextId())
+                .version(0)
+                .updatedAt(now())
+                .build();
+        claimEmail(newEmployee.getEmail(), newEmployee.getId());
+        try {
+            shard(newEmployee.getId()).update("insert into employees (" + COLUMNS + ") values (?, ?, ?, ?, ?, ?)",
+                    newEmployee.getId(), newEmployee.getFirstName(), newEmployee.getLastName(), newEmployee.getEmail(),
+                    newEmployee.getVersion(), Timestamp.from(newEmployee.getUpdatedAt()));
+        } catch (RuntimeException e) {
+            releaseEmail(newEmployee.getEmail(), newEmployee.getId());
+            throw e;
+        }
+        return newEmployee;
+    }
+
+    public Optional<Employee> findById(long id) {
+        return shard(id).query("select " + COLUMNS + " from employees where id = ?", EMPLOYEE, id).stream().findFirst();
+    }
+
+    public Optional<Employee> findByEmail(String email) {
+        // the directory may briefly point at a row that isn't written yet or was just deleted; the row decides
+        return findEmailOwner(email)
+                .flatMap(this::findById)
+                .filter(employee -> employee.getEmail().equals(email));
+    }
+
+    // the first limit employees with an id greater than after, from all shards
+    public List<Employee> findPage(long after, int limit) {
+        return merge(scatter(shard -> shard.query("select " + COLUMNS + " from employees where id > ? order by id limit ?",
+                EMPLOYEE, after, limit)), limit);
+    }
+
+    // exact match on whichever names are given, null matching any, keyset paged like findPage
+    public List<Employee> findByName(String firstName, String lastName, long after, int limit) {
+        return merge(scatter(shard -> shard.query("select " + COLUMNS + " from employees " +
+                        "where (? is null or first_name = ?) and (? is null or last_name = ?) and id > ? order by id limit ?",
+                EMPLOYEE, firstName, firstName, lastName, lastName, after, limit)), limit);
+    }
+
+    public long count() {
+        return scatter(shard -> shard.queryForList("select count(*) from employees", Long.class)).stream()
+                .flatMap(List::stream)
+                .mapToLong(Long::longValue)
+                .sum();
+    }
+
+    /**
+     * Replaces the names and email of the employee at {@code expected}'s version.
+     *
+     * @return the updated employee, or empty if the row is gone or no longer at that version
+     * @throws DuplicateKeyException if the new email belongs to another employee
+     */
+    public Optional<Employee> update(Employee expected, Employee replacement) {
+        long id = expected.getId();
+        boolean emailChanged = !expected.getEmail().equals(replacement.getEmail());
+        if (emailChanged) {
+            claimEmail(replacement.getEmail(), id);
+        }
+
+        Employee updatedEmployee = replacement.toBuilder()
+                .id(id)
+                .version(expected.getVersion() + 1)
+                .updatedAt(now())
+                .build();
+        int updated;
+        try {
+            updated = shard(id).update("update employees set first_name = ?, last_name = ?, email = ?, version = ?, updated_at = ? " +
+                            "where id = ? and version = ?",
+                    updatedEmployee.getFirstName(), updatedEmployee.getLastName(), updatedEmployee.getEmail(),
+                    updatedEmployee.getVersion(), Timestamp.from(updatedEmployee.getUpdatedAt()), id, expected.getVersion());
+        } catch (RuntimeException e) {
+            if (emailChanged) {
+                releaseEmail(replacement.getEmail(), id);
+            }
+            throw e;
+        }
+
+        if (updated == 0) {
+            if (emailChanged) {
+                releaseEmail(replacement.getEmail(), id);
+            }
+            return Optional.empty();
+        }
+        if (emailChanged) {
+            releaseEmail(expected.getEmail(), id);
+        }
+        return Optional.of(updatedEmployee);
+    }
+
+    public boolean deleteById(long id) {
+        Optional<Employee> employee = findById(id);
+        if (employee.isEmpty() || shard(id).update("delete from employees where id = ?", id) == 0) {
+            return false;
+        }
+        releaseEmail(employee.get().getEmail(), id);
+        return true;
+    }
+
+    private void claimEmail(String email, long id) {
+        JdbcTemplate directory = shards.get(emailShardOf(email));
+        try {
+            directory.update("insert into employee_emails (email, employee_id, claimed_at) values (?, ?, ?)",
+                    email, id, Timestamp.from(now()));
+        } catch (DuplicateKeyException e) {
+            if (!takeOverStaleClaim(directory, email, id)) {
+                throw e;
+            }
+        }
+    }
+
+    // a claim whose employee doesn't hold the email, left by a write that failed halfway
+    private boolean takeOverStaleClaim(JdbcTemplate directory, String email, long id) {
+        List<Long> owners = directory.queryForList("select employee_id from employee_emails where email = ? and claimed_at < ?",
+                Long.class, email, Timestamp.from(now().minus(STALE_CLAIM_AGE)));
+        if (owners.isEmpty()) {
+            return false;
+        }
+        long owner = owners.get(0);
+        if (findById(owner).filter(employee -> employee.getEmail().equals(email)).isPresent()) {
+            return false;
+        }
+        // compare-and-set, in case another writer is taking it over at the same time
+        return directory.update("update employee_emails set employee_id = ?, claimed_at = ? where email = ? and employee_id = ?",
+                id, Timestamp.from(now()), email, owner) == 1;
+    }
+
+    private void releaseEmail(String email, long id) {
+        shards.get(emailShardOf(email)).update("delete from employee_emails where email = ? and employee_id = ?", email, id);
+    }
+
+    private Optional<Long> findEmailOwner(String email) {
+        return shards.get(emailShardOf(email))
+                .queryForList("select employee_id from employee_emails where email = ?", Long.class, email)
+                .stream()
+                .findFirst();
+    }
+
+    private JdbcTemplate shard(long id) {
+        return shards.get(shardOf(id));
+    }
+
+    // runs the query on every shard at once; the slowest shard sets the latency
+    private <T> List<List<T>> scatter(Function<JdbcTemplate, List<T>> query) {
+        List<CompletableFuture<List<T>>> results = shards.stream()
+                .map(shard -> CompletableFuture.supplyAsync(() -> query.apply(shard), executor))
+                .toList();
+        try {
+            return results.stream().map(CompletableFuture::join).toList();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // k-way merge of the shards' id-ordered results, keeping the first limit
+    private static List<Employee> merge(List<List<Employee>> shardResults, int limit) {
+        PriorityQueue<Cursor> cursors = new PriorityQueue<>(Comparator.comparingLong(Cursor::id));
+        shardResults.stream()
+                .filter(Objects::nonNull)
+                .filter(result -> !result.isEmpty())
+                .forEach(result -> cursors.add(new Cursor(result)));
+
+        List<Employee> merged = new ArrayList<>(limit);
+        while (merged.size() < limit && !cursors.isEmpty()) {
+            Cursor cursor = cursors.poll();
+            merged.add(cursor.next());
+            if (cursor.hasNext()) {
+                cursors.add(cursor);
+            }
+        }
+        return merged;
+    }
+
+    // microseconds, as the column stores them
+    private static Instant now() {
+        return Instant.now().truncatedTo(ChronoUnit.MICROS);
+    }
+
+    private static final class Cursor {
+        private final List<Employee> employees;
+
+        private int position;
+
+        private Cursor(List<Employee> employees) {
+            this.employees = employees;
+        }
+
+        private long id() {
+            return employees.get(position).getId();
+        }
+
+        private Employee next() {
+            return employees.get(position++);
+        }
+
+        private boolean hasNext() {
+            return position < employees.size();
+        }
+    }
+}
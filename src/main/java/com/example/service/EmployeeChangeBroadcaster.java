@@ -0,0 +1,192 @@
+package com.example.service;
+
+import com.example.model.EmployeeChange;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Server-Sent Events view of the {@link EmployeeChangeLog}.
+ * <p>
+ * Every subscriber has a position in the log. After each commit that appended changes, one publisher thread reads
+ * the log once from the lowest position and queues each subscriber the changes past its own, so new subscribers
+ * catch up from their {@code since} and live ones share a single query per commit. Events carry the sequence
+ * number as their id, so a reconnecting client resumes with {@code Last-Event-ID}.
+ * <p>
+ * Each subscriber's events are written by its own virtual thread from a bounded buffer, so a slow or stalled client
+ * only holds up itself. A subscriber whose buffer overflows is closed; its client reconnects and catches up from
+ * the log.
+ */
+@Component
+public class EmployeeChangeBroadcaster {
+    private static final int READ_SIZE = 500;
+
+    @Value("${employee.changes.stream-timeout:30m}")
+    private Duration streamTimeout;
+
+    @Value("${employee.changes.subscriber-buffer:1000}")
+    private int subscriberBuffer;
+
+    @Autowired
+    private EmployeeChangeLog changeLog;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Set<Subscriber> subscribers = new CopyOnWriteArraySet<>();
+
+    // one thread: publishing is serialized and never runs on a committing request thread
+    private final ExecutorService publisher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "employee-change-publisher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // writes to the clients, which may block on a slow socket
+    private final ExecutorService senders = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("employee-change-sender-", 0).factory());
+
+    private Counter overflowed;
+
+    @PostConstruct
+    void init() {
+        Gauge.builder("employee.changes.subscribers", subscribers, Set::size)
+                .description("Open employee change streams")
+                .register(meterRegistry);
+        overflowed = Counter.builder("employee.changes.overflowed")
+                .description("Employee change streams closed because the client fell behind")
+                .register(meterRegistry);
+    }
+
+    public SseEmitter subscribe(long since) {
+        SseEmitter emitter = new SseEmitter(streamTimeout.toMillis());
+        subscribe(emitter, since);
+        return emitter;
+    }
+
+    void subscribe(SseEmitter emitter, long since) {
+        Subscriber subscriber = new Subscriber(emitter, since, subscriberBuffer);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(error -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        publisher.execute(this::publish);
+    }
+
+    @TransactionalEventListener
+    public void onAppended(EmployeeChangeLog.Appended appended) {
+        publisher.execute(this::publish);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        publisher.shutdownNow();
+        subscribers.forEach(Subscriber::close);
+        senders.shutdown();
+    }
+
+    private void publish() {
+        while (!subscribers.isEmpty()) {
+            long from = subscribers.stream().mapToLong(Subscriber::position).min().orElseThrow();
+            List<EmployeeChange> changes = changeLog.getLatestChanges(from, READ_SIZE).getChanges();
+            if (changes.isEmpty()) {
+                return;
+            }
+            for (Subscriber subscriber : subscribers) {
+                if (!subscriber.offer(changes)) {
+                    subscribers.remove(subscriber);
+                    overflowed.increment();
+                    subscriber.close();
+                }
+            }
+            if (changes.size() < READ_SIZE) {
+                return;
+            }
+        }
+    }
+
+    private final class Subscriber {
+        private final SseEmitter emitter;
+
+        private final BlockingQueue<EmployeeChange> buffer;
+
+        // set while a sender is draining the buffer, so there is at most one per subscriber
+        private final AtomicBoolean sending = new AtomicBoolean();
+
+        // last change queued, advanced by the publisher thread only
+        private volatile long position;
+
+        Subscriber(SseEmitter emitter, long position, int capacity) {
+            this.emitter = emitter;
+            this.position = position;
+            this.buffer = new ArrayBlockingQueue<>(capacity);
+        }
+
+        long position() {
+            return position;
+        }
+
+        // queues the changes past this subscriber's position; false once its buffer is full
+        boolean offer(List<EmployeeChange> changes) {
+            for (EmployeeChange change : changes) {
+                if (change.getSeq() > position) {
+                    if (!buffer.offer(change)) {
+                        return false;
+                    }
+                    position = change.getSeq();
+                }
+            }
+            if (!buffer.isEmpty() && sending.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+            return true;
+        }
+
+        // completing waits for a send in progress, so it never runs on the publisher thread
+        void close() {
+            senders.execute(emitter::complete);
+        }
+
+        private void drain() {
+            try {
+                EmployeeChange change;
+                while ((change = buffer.poll()) != null) {
+                    emitter.send(SseEmitter.event()
+                            .id(Long.toString(change.getSeq()))
+                            .name(change.getType().name())
+                            .data(change, MediaType.APPLICATION_JSON));
+                }
+            } catch (IOException | IllegalStateException e) {
+                // the client went away or the emitter already completed
+                subscribers.remove(this);
+                emitter.completeWithError(e);
+                return;
+            } finally {
+                sending.set(false);
+            }
+            // a change queued after the last poll but before the flag was cleared
+            if (!buffer.isEmpty() && sending.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.service;
+
+import com.example.model.EmployeeChange;
+import com.example.model.EmployeeChangePage;
+import com.example.repository.EmployeeChangeRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Transactional outbox of employee changes, read back as an incremental feed.
+ * <p>
+ * {@link EmployeeService} appends in the transaction of the change itself, so the log holds exactly the committed
+ * changes. Appending takes the {@code EmployeeChangeCounter} row lock until commit: the tail of concurrent write
+ * transactions is serialized and sequence numbers follow commit order, so a reader that has seen {@code seq} can
+ * never later find a smaller one appear. Appends must be the last statements of a transaction, so the counter is
+ * never held while waiting for an employee row lock.
+ */
+@Component
+public class EmployeeChangeLog {
+    public static final int MAX_CHUNK_SIZE = EmployeeService.IN_LIST_SIZE;
+
+    /**
+     * Published when a transaction has appended changes, up to and including {@code lastSeq}.
+     */
+    public record Appended(long lastSeq) {
+    }
+
+    @Autowired
+    private EmployeeChangeRepository changeRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    // the employees as they are now, in this transaction
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void appendUpserts(Collection<Long> employeeIds) {
+        if (employeeIds.isEmpty()) {
+            return;
+        }
+        List<Long> ids = List.copyOf(employeeIds);
+        long lastSeq = changeRepository.lockLastSeq();
+        Instant changedAt = now();
+        for (int from = 0; from < ids.size(); from += MAX_CHUNK_SIZE) {
+            lastSeq += changeRepository.insertUpserts(lastSeq, ids.subList(from, Math.min(from + MAX_CHUNK_SIZE, ids.size())), changedAt);
+        }
+        advance(lastSeq);
+    }
+
+    // tombstones: the rows are gone, so only the ids are recorded
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void appendDeletes(Collection<Long> employeeIds) {
+        if (employeeIds.isEmpty()) {
+            return;
+        }
+        long lastSeq = changeRepository.lockLastSeq();
+        Instant changedAt = now();
+        for (Long employeeId : employeeIds) {
+            // persist, not save: with an assigned id save() would merge and select each row first
+            entityManager.persist(EmployeeChange.builder()
+                    .seq(++lastSeq)
+                    .employeeId(employeeId)
+                    .type(EmployeeChange.Type.DELETE)
+                    .changedAt(changedAt)
+                    .build());
+        }
+        advance(lastSeq);
+    }
+
+    @Transactional(readOnly = true)
+    public EmployeeChangePage getChanges(long since, int limit) {
+        List<EmployeeChange> changes = changeRepository.findBySeqGreaterThanOrderBySeqAsc(since, PageRequest.ofSize(limit));
+        long nextSince = changes.isEmpty() ? since : changes.get(changes.size() - 1).getSeq();
+        return new EmployeeChangePage(changes, nextSince);
+    }
+
+    // for readers woken by a commit, which must see it: read-write, so the replica profile never routes it to a lagging replica
+    @Transactional
+    public EmployeeChangePage getLatestChanges(long since, int limit) {
+        return getChanges(since, limit);
+    }
+
+    // every change up to this one is committed and readable
+    @Transactional(readOnly = true)
+    public long getLastSeq() {
+        return changeRepository.findLastSeq();
+    }
+
+    private void advance(long lastSeq) {
+        changeRepository.updateLastSeq(lastSeq);
+        // delivered to @TransactionalEventListener(AFTER_COMMIT) listeners only if the transaction commits
+        eventPublisher.publishEvent(new Appended(lastSeq));
+    }
+
+    private static Instant now() {
+        return Instant.now().truncatedTo(ChronoUnit.MICROS);
+    }
+}
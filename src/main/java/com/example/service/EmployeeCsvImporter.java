@@ -0,0 +1,299 @@
+package com.example.service;
+
+import com.example.exception.ResourceAlreadyExistsException;
+import com.example.model.Employee;
+import com.example.model.EmployeeBatchResult;
+import com.example.model.EmployeeImport;
+import com.example.repository.EmployeeImportRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bulk import of employees from CSV.
+ * <p>
+ * The input is parsed as it streams in, so the file size is not bounded by the heap. Rows are written in chunks with
+ * {@link EmployeeService#saveEmployees}, and every chunk commits together with the import's progress: a failed or
+ * interrupted import re-run under the same id skips the committed bytes and carries on from there. Existing emails
+ * are counted as duplicates; malformed rows are rejected and counted, and the import goes on.
+ * <p>
+ * Columns are {@code firstName,lastName,email}, in that order unless the first line is a header naming them.
+ */
+@Component
+public class EmployeeCsvImporter {
+    public static final String ROWS = "employee.import.rows";
+    public static final int MAX_REJECTED_ROWS_REPORTED = 100;
+    public static final int MAX_FIELD_LENGTH = 255;
+
+    private static final List<String> COLUMNS = List.of("firstname", "lastname", "email");
+
+    // a row may have more columns than needed; they are counted but not read
+    private static final int MAX_COLUMNS = 16;
+
+    // a chunk that lost a race with a concurrent create is re-checked and retried
+    private static final int MAX_ATTEMPTS = 3;
+
+    @Value("${employee.import.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${employee.import.buffer-size:1MB}")
+    private DataSize bufferSize;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeImportRepository importRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Set<String> running = ConcurrentHashMap.newKeySet();
+
+    private Counter importedRows;
+
+    private Counter duplicateRows;
+
+    private Counter rejectedRows;
+
+    @PostConstruct
+    void init() {
+        importedRows = rowCounter("imported");
+        duplicateRows = rowCounter("duplicate");
+        rejectedRows = rowCounter("rejected");
+    }
+
+    public Optional<EmployeeImport> getImport(String id) {
+        return importRepository.findById(id);
+    }
+
+    /**
+     * Imports the CSV read from {@code channel} under {@code id}, resuming a previous run of the same id.
+     * A completed import is not run again. The channel is left open.
+     */
+    public EmployeeImport importCsv(String id, ReadableByteChannel channel) throws IOException {
+        if (!running.add(id)) {
+            throw new ResourceAlreadyExistsException("Import is already running: " + id);
+        }
+        try {
+            Optional<EmployeeImport> previous = importRepository.findById(id);
+            if (previous.isPresent() && previous.get().getStatus() == EmployeeImport.Status.COMPLETED) {
+                return previous.get();
+            }
+
+            Instant now = Instant.now();
+            EmployeeImport progress = previous
+                    .map(existing -> existing.toBuilder().status(EmployeeImport.Status.RUNNING).message(null).updatedAt(now).build())
+                    .orElseGet(() -> EmployeeImport.builder()
+                            .id(id)
+                            .status(EmployeeImport.Status.RUNNING)
+                            .startedAt(now)
+                            .updatedAt(now)
+                            .build());
+            progress = importRepository.save(progress);
+            return run(progress, channel);
+        } finally {
+            running.remove(id);
+        }
+    }
+
+    private EmployeeImport run(EmployeeImport progress, ReadableByteChannel channel) throws IOException {
+        long started = System.nanoTime();
+        long startBytes = progress.getCommittedBytes();
+        long startLines = progress.getCommittedLines();
+        List<String> rejectedSamples = new ArrayList<>();
+
+        try {
+            EmployeeCsvReader reader = new EmployeeCsvReader(channel, Math.toIntExact(bufferSize.toBytes()));
+            String[] fields = new String[MAX_COLUMNS];
+            int[] columns = {0, 1, 2};
+
+            // the header is read on every run, a resumed one included, for the column order
+            int count = reader.read(fields);
+            boolean header = count > 0 && isHeader(fields, count);
+            if (header) {
+                columns = columns(fields, count);
+            }
+            if (startBytes > 0) {
+                reader.skipTo(startBytes, startLines);
+            }
+
+            Chunk chunk = new Chunk(chunkSize);
+            if (count >= 0 && !header && startBytes == 0) {
+                add(chunk, reader.line(), fields, count, columns, rejectedSamples);
+            }
+            while ((count = reader.read(fields)) >= 0) {
+                add(chunk, reader.line(), fields, count, columns, rejectedSamples);
+                if (chunk.employees.size() == chunkSize) {
+                    progress = commit(progress, chunk, reader);
+                }
+            }
+            progress = commit(progress, chunk, reader);
+
+            progress.setStatus(EmployeeImport.Status.COMPLETED);
+            progress.setUpdatedAt(Instant.now());
+            progress = importRepository.save(progress);
+        } catch (IOException | RuntimeException e) {
+            progress.setStatus(EmployeeImport.Status.FAILED);
+            progress.setMessage(e.getMessage());
+            progress.setUpdatedAt(Instant.now());
+            importRepository.save(progress);
+            throw e;
+        }
+
+        double seconds = Math.max(System.nanoTime() - started, 1) / 1e9;
+        progress.setRowsPerSecond((progress.getCommittedLines() - startLines) / seconds);
+        progress.setMegabytesPerSecond((progress.getCommittedBytes() - startBytes) / seconds / (1024 * 1024));
+        progress.setRejectedRows(rejectedSamples);
+        return progress;
+    }
+
+    private void add(Chunk chunk, long line, String[] fields, int count, int[] columns, List<String> rejectedSamples) {
+        // blank lines are skipped silently
+        if (count == 0) {
+            return;
+        }
+        String problem = validate(fields, count, columns);
+        if (problem != null) {
+            chunk.rejected++;
+            if (rejectedSamples.size() < MAX_REJECTED_ROWS_REPORTED) {
+                rejectedSamples.add("line " + line + ": " + problem);
+            }
+            return;
+        }
+        chunk.employees.add(Employee.builder()
+                .firstName(fields[columns[0]].strip())
+                .lastName(fields[columns[1]].strip())
+                .email(fields[columns[2]].strip())
+                .build());
+    }
+
+    private static String validate(String[] fields, int count, int[] columns) {
+        for (int i = 0; i < columns.length; i++) {
+            if (columns[i] >= count) {
+                return "missing " + COLUMNS.get(i) + " column";
+            }
+            String value = fields[columns[i]];
+            if (value.isBlank()) {
+                return COLUMNS.get(i) + " is blank";
+            }
+            if (value.length() > MAX_FIELD_LENGTH) {
+                return COLUMNS.get(i) + " is longer than " + MAX_FIELD_LENGTH + " characters";
+            }
+        }
+        if (fields[columns[2]].indexOf('@') < 0) {
+            return "email is not valid";
+        }
+        return null;
+    }
+
+    // writes the chunk and the progress up to the reader's position in one transaction
+    private EmployeeImport commit(EmployeeImport progress, Chunk chunk, EmployeeCsvReader reader) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                EmployeeImport committed = transactionTemplate.execute(status -> {
+                    List<EmployeeBatchResult> results = chunk.employees.isEmpty() ? List.of() : employeeService.saveEmployees(chunk.employees);
+                    long imported = count(results, EmployeeBatchResult.Status.CREATED);
+                    long duplicates = count(results, EmployeeBatchResult.Status.DUPLICATE);
+                    long invalid = count(results, EmployeeBatchResult.Status.INVALID);
+                    return importRepository.save(progress.toBuilder()
+                            .committedBytes(reader.offset())
+                            .committedLines(reader.line())
+                            .imported(progress.getImported() + imported)
+                            .duplicates(progress.getDuplicates() + duplicates)
+                            .rejected(progress.getRejected() + chunk.rejected + invalid)
+                            .updatedAt(Instant.now())
+                            .build());
+                });
+                importedRows.increment(committed.getImported() - progress.getImported());
+                duplicateRows.increment(committed.getDuplicates() - progress.getDuplicates());
+                rejectedRows.increment(committed.getRejected() - progress.getRejected());
+                chunk.clear();
+                return committed;
+            } catch (ResourceAlreadyExistsException e) {
+                if (attempt == MAX_ATTEMPTS) {
+                    throw e;
+                }
+                // the rolled back attempt left its generated ids on the entities
+                chunk.employees.forEach(employee -> {
+                    employee.setId(0);
+                    employee.setVersion(0);
+                });
+            }
+        }
+    }
+
+    private static long count(List<EmployeeBatchResult> results, EmployeeBatchResult.Status status) {
+        return results.stream().filter(result -> result.getStatus() == status).count();
+    }
+
+    // a header names all three columns; a data row may well contain one of the names, e.g. a last name "Email"
+    private static boolean isHeader(String[] fields, int count) {
+        for (int column : columns(fields, count)) {
+            if (column < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // the position of each of COLUMNS in the header, -1 where it isn't named
+    private static int[] columns(String[] fields, int count) {
+        int[] columns = new int[COLUMNS.size()];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = -1;
+        }
+        for (int i = 0; i < Math.min(count, fields.length); i++) {
+            int column = COLUMNS.indexOf(normalize(fields[i]));
+            if (column >= 0 && columns[column] < 0) {
+                columns[column] = i;
+            }
+        }
+        return columns;
+    }
+
+    // "First Name", "first_name" and "firstName" all name the same column
+    private static String normalize(String name) {
+        return name.strip().replace("_", "").replace(" ", "").toLowerCase(Locale.ROOT);
+    }
+
+    private Counter rowCounter(String outcome) {
+        return Counter.builder(ROWS)
+                .description("CSV import rows committed, by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static final class Chunk {
+        private final List<Employee> employees;
+
+        private long rejected;
+
+        private Chunk(int size) {
+            this.employees = new ArrayList<>(size);
+        }
+
+        private void clear() {
+            employees.clear();
+            rejected = 0;
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.example.service;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Reads CSV records straight from a byte channel through one reusable buffer. The input is never decoded as a
+ * whole or split into line strings first: the only allocations per record are the field values themselves.
+ * <p>
+ * RFC 4180 quoting is supported ({@code "a, b"}, with {@code ""} for a quote inside); records end with LF or CRLF
+ * and may span lines inside quotes. A record must fit in the buffer.
+ */
+final class EmployeeCsvReader {
+    private static final byte QUOTE = '"';
+    private static final byte COMMA = ',';
+    private static final byte LF = '\n';
+    private static final byte CR = '\r';
+
+    private final ReadableByteChannel channel;
+
+    private final byte[] bytes;
+
+    private final ByteBuffer buffer;
+
+    // unparsed input is bytes[position, limit)
+    private int position;
+
+    private int limit;
+
+    private boolean eof;
+
+    // unescaped content of quoted fields
+    private byte[] scratch = new byte[256];
+
+    // input bytes and records consumed so far
+    private long offset;
+
+    private long line;
+
+    EmployeeCsvReader(ReadableByteChannel channel, int bufferSize) {
+        this.channel = channel;
+        this.bytes = new byte[bufferSize];
+        this.buffer = ByteBuffer.wrap(bytes);
+    }
+
+    /**
+     * Reads the next record into {@code fields}.
+     *
+     * @return the number of fields of the record, which may exceed {@code fields.length} (the extra ones are
+     * counted, not stored), 0 for a blank line, or -1 at the end of the input
+     */
+    int read(String[] fields) throws IOException {
+        while (true) {
+            int end = findRecordEnd();
+            if (end >= 0) {
+                int count = parse(position, end, fields);
+                consume(end + 1);
+                return count;
+            }
+            if (eof) {
+                if (position == limit) {
+                    return -1;
+                }
+                // last record without a line break
+                int count = parse(position, limit, fields);
+                consume(limit);
+                return count;
+            }
+            fill();
+        }
+    }
+
+    /**
+     * Skips ahead to {@code targetOffset}, which must be the end of a record, without parsing what lies before it.
+     * Seekable channels are repositioned; other input is read and discarded.
+     */
+    void skipTo(long targetOffset, long targetLine) throws IOException {
+        long remaining = targetOffset - offset;
+        int buffered = limit - position;
+        if (remaining <= buffered) {
+            position += (int) remaining;
+        } else {
+            remaining -= buffered;
+            position = 0;
+            limit = 0;
+            if (channel instanceof SeekableByteChannel seekable) {
+                seekable.position(seekable.position() + remaining);
+            } else {
+                while (remaining > 0) {
+                    buffer.clear().limit((int) Math.min(bytes.length, remaining));
+                    int read = channel.read(buffer);
+                    if (read < 0) {
+                        throw new EOFException("Input ends before byte " + targetOffset);
+                    }
+                    remaining -= read;
+                }
+            }
+        }
+        offset = targetOffset;
+        line = targetLine;
+    }
+
+    // bytes consumed up to the end of the last record read
+    long offset() {
+        return offset;
+    }
+
+    // 1-based number of the last record read, the header included
+    long line() {
+        return line;
+    }
+
+    // index of the LF ending the record at position, or -1 if it isn't complete in the buffer yet
+    private int findRecordEnd() {
+        boolean quoted = false;
+        for (int i = position; i < limit; i++) {
+            byte b = bytes[i];
+            if (b == QUOTE) {
+                quoted = !quoted;
+            } else if (b == LF && !quoted) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int parse(int start, int end, String[] fields) {
+        if (end > start && bytes[end - 1] == CR) {
+            end--;
+        }
+        if (start == end) {
+            return 0;
+        }
+
+        int count = 0;
+        int i = start;
+        while (true) {
+            String value;
+            if (i < end && bytes[i] == QUOTE) {
+                int length = 0;
+                i++;
+                while (i < end) {
+                    byte b = bytes[i++];
+                    if (b == QUOTE) {
+                        if (i < end && bytes[i] == QUOTE) {
+                            i++;
+                        } else {
+                            break;
+                        }
+                    }
+                    if (length == scratch.length) {
+                        scratch = Arrays.copyOf(scratch, scratch.length * 2);
+                    }
+                    scratch[length++] = b;
+                }
+                // anything between the closing quote and the next comma is dropped
+                while (i < end && bytes[i] != COMMA) {
+                    i++;
+                }
+                value = count < fields.length ? new String(scratch, 0, length, StandardCharsets.UTF_8) : null;
+            } else {
+                int from = i;
+                while (i < end && bytes[i] != COMMA) {
+                    i++;
+                }
+                value = count < fields.length ? new String(bytes, from, i - from, StandardCharsets.UTF_8) : null;
+            }
+            if (count < fields.length) {
+                fields[count] = value;
+            }
+            count++;
+            if (i >= end) {
+                return count;
+            }
+            // past the comma; a trailing comma yields a last, empty field
+            i++;
+        }
+    }
+
+    private void consume(int next) {
+        offset += next - position;
+        position = next;
+        line++;
+    }
+
+    // moves the incomplete record to the front of the buffer and reads more input behind it
+    private void fill() throws IOException {
+        if (position > 0) {
+            System.arraycopy(bytes, position, bytes, 0, limit - position);
+            limit -= position;
+            position = 0;
+        }
+        if (limit == bytes.length) {
+            throw new IOException("CSV record " + (line + 1) + " is longer than the " + bytes.length + " byte read buffer");
+        }
+        buffer.clear().position(limit);
+        int read = channel.read(buffer);
+        if (read < 0) {
+            eof = true;
+        } else {
+            limit += read;
+        }
+    }
+}
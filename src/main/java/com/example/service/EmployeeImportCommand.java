@@ -0,0 +1,59 @@
+package com.example.service;
+
+import com.example.model.EmployeeImport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.ExitCodeGenerator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Runs one CSV import at startup, e.g.
+ * {@code java -jar app.jar --spring.main.web-application-type=none --employee.import.file=employees.csv}.
+ * The import id defaults to the file name, so running the same command again resumes an import that failed.
+ * {@code main} exits with {@link #getExitCode()} once the import has run; a failed import fails the startup.
+ */
+@Component
+@ConditionalOnProperty("employee.import.file")
+public class EmployeeImportCommand implements ApplicationRunner, ExitCodeGenerator {
+    private static final Logger log = LoggerFactory.getLogger(EmployeeImportCommand.class);
+
+    @Value("${employee.import.file}")
+    private Path file;
+
+    @Value("${employee.import.id:}")
+    private String id;
+
+    @Autowired
+    private EmployeeCsvImporter importer;
+
+    private volatile int exitCode = 1;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        String importId = id.isBlank() ? file.getFileName().toString() : id;
+        EmployeeImport result;
+        // a file channel is seekable: a resumed import jumps straight to the committed offset
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            result = importer.importCsv(importId, channel);
+        }
+        log.info("Import {} {}: {} imported, {} duplicates, {} rejected, {} rows/s, {} MB/s",
+                importId, result.getStatus(), result.getImported(), result.getDuplicates(), result.getRejected(),
+                Math.round(result.getRowsPerSecond()), String.format("%.1f", result.getMegabytesPerSecond()));
+        result.getRejectedRows().forEach(row -> log.info("Rejected {}", row));
+        exitCode = 0;
+    }
+
+    @Override
+    public int getExitCode() {
+        return exitCode;
+    }
+}
@@ -0,0 +1,270 @@
+package com.example.service;
+
+import com.example.exception.IngestQueueClosedException;
+import com.example.exception.IngestQueueFullException;
+import com.example.exception.ResourceAlreadyExistsException;
+import com.example.model.Employee;
+import com.example.model.EmployeeBatchResult;
+import com.example.model.EmployeeIngestTicket;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Write-behind queue for employee creates.
+ * <p>
+ * {@link #submit} only enqueues and hands out a ticket; a single background writer drains the bounded queue in
+ * micro-batches, written with {@link EmployeeService#saveEmployees}, and records each outcome on its ticket.
+ * A full queue rejects the submit instead of blocking. On shutdown new submits are refused and the writer
+ * empties the queue before the application context (and its DataSource) goes away; whatever is still queued after
+ * {@code shutdown-timeout} is dropped, counted, logged and its tickets marked failed. Tickets are kept for
+ * {@code ticket-ttl}, but never more than {@code max-tickets} of them, so memory stays bounded at any ingest rate.
+ */
+@Component
+public class EmployeeIngestQueue implements SmartLifecycle {
+    // higher phases stop first: the web server stops taking requests before the queue is drained
+    public static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 2048;
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeIngestQueue.class);
+
+    private static final long POLL_INTERVAL_MS = 100;
+
+    @Value("${employee.ingest.capacity:10000}")
+    private int capacity;
+
+    @Value("${employee.ingest.batch-size:500}")
+    private int batchSize;
+
+    @Value("${employee.ingest.max-delay:50ms}")
+    private Duration maxDelay;
+
+    @Value("${employee.ingest.ticket-ttl:1h}")
+    private Duration ticketTtl;
+
+    @Value("${employee.ingest.max-tickets:100000}")
+    private long maxTickets;
+
+    @Value("${employee.ingest.shutdown-timeout:30s}")
+    private Duration shutdownTimeout;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private BlockingQueue<Pending> queue;
+
+    private Cache<String, EmployeeIngestTicket> tickets;
+
+    private Counter rejected;
+
+    private Counter dropped;
+
+    private DistributionSummary batchSizes;
+
+    // submits hold the read lock while enqueuing, so once stop() has the write lock no more items can arrive
+    private final ReadWriteLock submitLock = new ReentrantReadWriteLock();
+
+    private volatile boolean accepting;
+
+    private volatile boolean running;
+
+    private Thread writer;
+
+    @PostConstruct
+    void init() {
+        queue = new ArrayBlockingQueue<>(capacity);
+        tickets = Caffeine.newBuilder()
+                .expireAfterWrite(ticketTtl)
+                .maximumSize(maxTickets)
+                .build();
+        Gauge.builder("employee.ingest.queue.size", queue, BlockingQueue::size)
+                .description("Employee creates waiting for the background writer")
+                .register(meterRegistry);
+        rejected = Counter.builder("employee.ingest.rejected")
+                .description("Employee creates rejected because the ingest queue was full or shutting down")
+                .register(meterRegistry);
+        dropped = Counter.builder("employee.ingest.dropped")
+                .description("Queued employee creates dropped because the writer hadn't reached them within the shutdown timeout")
+                .register(meterRegistry);
+        batchSizes = DistributionSummary.builder("employee.ingest.batch.size")
+                .description("Employees written per micro-batch")
+                .register(meterRegistry);
+    }
+
+    public EmployeeIngestTicket submit(Employee employee) {
+        EmployeeIngestTicket ticket = new EmployeeIngestTicket(UUID.randomUUID().toString(),
+                EmployeeIngestTicket.Status.QUEUED, employee, null);
+
+        submitLock.readLock().lock();
+        try {
+            if (!accepting) {
+                rejected.increment();
+                throw new IngestQueueClosedException("Employee ingestion is not accepting requests");
+            }
+            tickets.put(ticket.getId(), ticket);
+            if (!queue.offer(new Pending(ticket.getId(), employee))) {
+                tickets.invalidate(ticket.getId());
+                rejected.increment();
+                throw new IngestQueueFullException("Employee ingestion queue is full, retry later");
+            }
+        } finally {
+            submitLock.readLock().unlock();
+        }
+        return ticket;
+    }
+
+    public Optional<EmployeeIngestTicket> getTicket(String ticketId) {
+        return Optional.ofNullable(tickets.getIfPresent(ticketId));
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        accepting = true;
+        writer = new Thread(this::drain, "employee-ingest-writer");
+        // a writer stuck past the shutdown timeout must not keep the JVM alive
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @Override
+    public void stop() {
+        submitLock.writeLock().lock();
+        try {
+            accepting = false;
+        } finally {
+            submitLock.writeLock().unlock();
+        }
+        running = false;
+        try {
+            writer.join(shutdownTimeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writer.isAlive()) {
+            // take what the writer hasn't reached, so it exits after its current batch
+            List<Pending> remaining = new ArrayList<>();
+            queue.drainTo(remaining);
+            if (!remaining.isEmpty()) {
+                remaining.forEach(pending -> complete(pending.ticketId(), EmployeeIngestTicket.Status.FAILED, pending.employee(),
+                        "Employee ingestion shut down before the employee was written"));
+                dropped.increment(remaining.size());
+                log.warn("Employee ingestion shutdown timed out after {}, dropped {} queued employees", shutdownTimeout, remaining.size());
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private void drain() {
+        List<Pending> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                if (collect(batch)) {
+                    write(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            batch.clear();
+        }
+    }
+
+    // waits for a first item, then gathers more until the batch is full or max-delay has passed since the first one
+    private boolean collect(List<Pending> batch) throws InterruptedException {
+        Pending first = queue.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return false;
+        }
+        batch.add(first);
+
+        long deadline = System.nanoTime() + maxDelay.toNanos();
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            // while stopping only what is already queued matters, so don't wait for more
+            if (batch.size() >= batchSize || remaining <= 0 || !running) {
+                break;
+            }
+            Pending next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return true;
+    }
+
+    void write(List<Pending> batch) {
+        batchSizes.record(batch.size());
+        try {
+            List<EmployeeBatchResult> results = employeeService.saveEmployees(batch.stream().map(Pending::employee).toList());
+            for (EmployeeBatchResult result : results) {
+                complete(batch.get(result.getIndex()).ticketId(), EmployeeIngestTicket.Status.valueOf(result.getStatus().name()),
+                        result.getEmployee(), result.getMessage());
+            }
+        } catch (ResourceAlreadyExistsException e) {
+            // a concurrent create took one of the emails after the duplicate check and the batch rolled back:
+            // retry the items one by one so only the duplicate fails
+            batch.forEach(this::writeOne);
+        } catch (RuntimeException e) {
+            batch.forEach(pending -> complete(pending.ticketId(), EmployeeIngestTicket.Status.FAILED, pending.employee(), e.getMessage()));
+        }
+    }
+
+    private void writeOne(Pending pending) {
+        // the rolled back batch insert has already assigned ids, so save a fresh copy
+        Employee employee = Employee.builder()
+                .firstName(pending.employee().getFirstName())
+                .lastName(pending.employee().getLastName())
+                .email(pending.employee().getEmail())
+                .build();
+        try {
+            complete(pending.ticketId(), EmployeeIngestTicket.Status.CREATED, employeeService.saveEmployee(employee), null);
+        } catch (ResourceAlreadyExistsException e) {
+            complete(pending.ticketId(), EmployeeIngestTicket.Status.DUPLICATE, employee, e.getMessage());
+        } catch (RuntimeException e) {
+            complete(pending.ticketId(), EmployeeIngestTicket.Status.FAILED, employee, e.getMessage());
+        }
+    }
+
+    // tickets are replaced rather than mutated, so readers never see a half-updated one
+    private void complete(String ticketId, EmployeeIngestTicket.Status status, Employee employee, String message) {
+        tickets.put(ticketId, new EmployeeIngestTicket(ticketId, status, employee, message));
+    }
+
+    record Pending(String ticketId, Employee employee) {
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.service;
+
+import com.example.model.Employee;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight for the employee lookups by id and by email.
+ * <p>
+ * The Spring cache in front of {@code EmployeeRepository} only helps once a value is cached: a burst of requests
+ * for a hot key that misses (or was just evicted by a write) would otherwise run one query per request. Here they
+ * share a single query. A caller that joins an in-flight lookup gets the value read by it, which may predate a
+ * write that completed in the meantime, the same as if it had arrived a moment earlier.
+ */
+@Component
+public class EmployeeLookupCoalescer {
+    public static final String COALESCED = "employee.lookup.coalesced";
+    public static final String IN_FLIGHT = "employee.lookup.in-flight";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private SingleFlight<Long, Optional<Employee>> byId;
+
+    private SingleFlight<String, Optional<Employee>> byEmail;
+
+    @PostConstruct
+    void init() {
+        byId = singleFlight("id");
+        byEmail = singleFlight("email");
+    }
+
+    public Optional<Employee> byId(long id, Supplier<Optional<Employee>> loader) {
+        return byId.execute(id, loader);
+    }
+
+    public Optional<Employee> byEmail(String email, Supplier<Optional<Employee>> loader) {
+        return byEmail.execute(email, loader);
+    }
+
+    private <K> SingleFlight<K, Optional<Employee>> singleFlight(String lookup) {
+        Counter coalesced = Counter.builder(COALESCED)
+                .description("Employee lookups served by joining an identical lookup already in flight")
+                .tag("lookup", lookup)
+                .register(meterRegistry);
+        SingleFlight<K, Optional<Employee>> singleFlight = new SingleFlight<>(coalesced::increment);
+        Gauge.builder(IN_FLIGHT, singleFlight, SingleFlight::inFlight)
+                .description("Distinct employee lookups currently running")
+                .tag("lookup", lookup)
+                .register(meterRegistry);
+        return singleFlight;
+    }
+}
@@ -0,0 +1,251 @@
+package com.example.service;
+
+import com.example.model.EmployeeChange;
+import com.example.model.EmployeeChangePage;
+import com.example.model.EmployeeKey;
+import com.example.repository.EmployeeRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Stream;
+
+/**
+ * Bloom filters of the employee ids and emails in the database, so lookups of ones that don't exist are answered
+ * without a query.
+ * <p>
+ * A "no" is definite, a "maybe" goes to the database as before. The filters are built from a scan on startup, and
+ * {@link EmployeeService} adds to them in every transaction that creates an employee or changes an email. Writes of
+ * other instances are picked up from the change log every {@code catch-up-interval}. Deleted and replaced entries
+ * stay in until the periodic rebuild, which also resizes the filters to the table.
+ * Until the first build, and with {@code employee.membership-filter.enabled=false}, everything "might exist".
+ */
+@Component
+public class EmployeeMembershipFilter {
+    public static final String LOOKUPS = "employee.membership-filter.lookups";
+    public static final String FALSE_POSITIVES = "employee.membership-filter.false-positives";
+    public static final String EXPECTED_FPP = "employee.membership-filter.expected-fpp";
+    public static final String MEMORY = "employee.membership-filter.memory";
+
+    private static final int CATCH_UP_PAGE_SIZE = 1000;
+
+    @Value("${employee.membership-filter.enabled:true}")
+    private boolean enabled;
+
+    @Value("${employee.membership-filter.false-positive-probability:0.01}")
+    private double falsePositiveProbability;
+
+    // sized for at least this many employees, and for twice the table at every rebuild
+    @Value("${employee.membership-filter.min-capacity:100000}")
+    private long minCapacity;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EmployeeChangeLog changeLog;
+
+    // read-write, so under the replica profile the scans and catch-ups read the primary and see the latest commits
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private volatile Filters current;
+
+    // being built by rebuild(); receives every add while the scan runs
+    private volatile Filters building;
+
+    // change log position the filters have caught up to
+    private long lastSeq;
+
+    private Counter idNegatives;
+    private Counter idPositives;
+    private Counter idFalsePositives;
+    private Counter emailNegatives;
+    private Counter emailPositives;
+    private Counter emailFalsePositives;
+
+    private record Filters(BloomFilter ids, BloomFilter emails) {
+        void add(long id, String email) {
+            ids.put(BloomFilter.hash(id));
+            if (email != null) {
+                emails.put(BloomFilter.hash(email));
+            }
+        }
+    }
+
+    @PostConstruct
+    void init() {
+        idNegatives = lookupCounter("id", "negative");
+        idPositives = lookupCounter("id", "positive");
+        idFalsePositives = falsePositiveCounter("id");
+        emailNegatives = lookupCounter("email", "negative");
+        emailPositives = lookupCounter("email", "positive");
+        emailFalsePositives = falsePositiveCounter("email");
+        filterGauge(EXPECTED_FPP, "id", "Probability that an absent employee id passes the filter", BloomFilter::expectedFalsePositiveProbability);
+        filterGauge(EXPECTED_FPP, "email", "Probability that an absent employee email passes the filter", BloomFilter::expectedFalsePositiveProbability);
+        filterGauge(MEMORY, "id", "Heap used by the employee id filter", BloomFilter::sizeInBytes);
+        filterGauge(MEMORY, "email", "Heap used by the employee email filter", BloomFilter::sizeInBytes);
+    }
+
+    public boolean mightContainId(long id) {
+        Filters filters = current;
+        if (filters == null) {
+            return true;
+        }
+        boolean mightContain = filters.ids().mightContain(BloomFilter.hash(id));
+        (mightContain ? idPositives : idNegatives).increment();
+        return mightContain;
+    }
+
+    public boolean mightContainEmail(String email) {
+        Filters filters = current;
+        if (filters == null) {
+            return true;
+        }
+        boolean mightContain = filters.emails().mightContain(BloomFilter.hash(email));
+        (mightContain ? emailPositives : emailNegatives).increment();
+        return mightContain;
+    }
+
+    // a "maybe" the database answered with "no": a real false positive or a deleted employee
+    public void recordIdFalsePositive() {
+        if (current != null) {
+            idFalsePositives.increment();
+        }
+    }
+
+    public void recordEmailFalsePositive() {
+        if (current != null) {
+            emailFalsePositives.increment();
+        }
+    }
+
+    /**
+     * Adds an employee written by the current transaction. Called before commit, so no reader can find the row
+     * before the filter knows it, and again after commit for a rebuild that ran meanwhile; a rollback only leaves a
+     * false positive behind.
+     */
+    public void add(long id, String email) {
+        addNow(id, email);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    // a rebuild that started scanning before this commit can't have seen the row, and may have
+                    // swapped its filters in since the add above
+                    addNow(id, email);
+                }
+            });
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${employee.membership-filter.rebuild-interval:PT1H}",
+            fixedDelayString = "${employee.membership-filter.rebuild-interval:PT1H}")
+    public synchronized void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        long capacity = Math.max(minCapacity, transactionTemplate.execute(status -> employeeRepository.count()) * 2);
+        Filters filters = new Filters(
+                new BloomFilter(capacity, falsePositiveProbability),
+                new BloomFilter(capacity, falsePositiveProbability));
+        building = filters;
+        try {
+            long seq = transactionTemplate.execute(status -> {
+                // everything up to lastCommitted is committed, so the scan below sees it; later changes come through catchUp
+                long lastCommitted = changeLog.getLastSeq();
+                try (Stream<EmployeeKey> employees = employeeRepository.streamAllKeys()) {
+                    employees.forEach(employee -> filters.add(employee.getId(), employee.getEmail()));
+                }
+                return lastCommitted;
+            });
+            if (current == null) {
+                lastSeq = seq;
+            }
+            current = filters;
+        } finally {
+            building = null;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${employee.membership-filter.catch-up-interval:PT1S}")
+    public synchronized void catchUp() {
+        Filters filters = current;
+        if (filters == null) {
+            return;
+        }
+        EmployeeChangePage page;
+        do {
+            page = transactionTemplate.execute(status -> changeLog.getChanges(lastSeq, CATCH_UP_PAGE_SIZE));
+            for (EmployeeChange change : page.getChanges()) {
+                if (change.getType() == EmployeeChange.Type.UPSERT) {
+                    filters.add(change.getEmployeeId(), change.getEmail());
+                }
+            }
+            lastSeq = page.getNextSince();
+        } while (page.getChanges().size() == CATCH_UP_PAGE_SIZE);
+
+        // past its capacity the false-positive rate climbs quickly; resize now rather than at the next interval.
+        // Judged by the bits set, since replayed and repeated entries add none
+        if (filters.ids().expectedFalsePositiveProbability() > falsePositiveProbability
+                || filters.emails().expectedFalsePositiveProbability() > falsePositiveProbability) {
+            rebuild();
+        }
+    }
+
+    // building before current: rebuild() publishes its filters as current before clearing building, so one of the
+    // two reads sees them
+    private void addNow(long id, String email) {
+        Filters filters = building;
+        if (filters != null) {
+            filters.add(id, email);
+        }
+        filters = current;
+        if (filters != null) {
+            filters.add(id, email);
+        }
+    }
+
+    private Counter lookupCounter(String filter, String result) {
+        return Counter.builder(LOOKUPS)
+                .description("Employee lookups checked against the membership filter; negative ones skip the database")
+                .tag("filter", filter)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private Counter falsePositiveCounter(String filter) {
+        return Counter.builder(FALSE_POSITIVES)
+                .description("Lookups the membership filter let through that found nothing, deleted employees included")
+                .tag("filter", filter)
+                .register(meterRegistry);
+    }
+
+    private void filterGauge(String name, String filter, String description, ToDoubleFunction<BloomFilter> value) {
+        Gauge.builder(name, this, membership -> {
+                    Filters filters = membership.current;
+                    if (filters == null) {
+                        return Double.NaN;
+                    }
+                    return value.applyAsDouble(filter.equals("id") ? filters.ids() : filters.emails());
+                })
+                .description(description)
+                .tag("filter", filter)
+                .register(meterRegistry);
+    }
+}
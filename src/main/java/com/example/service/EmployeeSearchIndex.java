@@ -0,0 +1,241 @@
+package com.example.service;
+
+import com.example.model.Employee;
+import com.example.model.EmployeeChange;
+import com.example.model.EmployeeChangePage;
+import com.example.model.EmployeeView;
+import com.example.repository.EmployeeRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+/**
+ * In-memory prefix index over employee first name, last name and email for type-ahead search.
+ * <p>
+ * Terms are kept in a sorted map, so a prefix query is a range scan over the terms starting with it rather than a
+ * {@code LIKE '%x%'} table scan. The index is rebuilt from the database on startup and then follows the
+ * {@link EmployeeChangeLog}: after each commit that appended changes, and every {@code catch-up-interval} for writes
+ * of other instances, one thread applies the new changes in sequence order. Writes therefore land in commit order,
+ * so an older update can't overwrite a newer one or bring back a deleted employee. Readers never block and check
+ * every candidate against its current document, so a term left behind by a concurrent update can't produce a wrong
+ * match.
+ * <p>
+ * A rebuild fills a new index from a table scan while the current one keeps serving, then applies the changes
+ * committed since the scan started before it is swapped in.
+ */
+@Component
+public class EmployeeSearchIndex {
+    private static final int CATCH_UP_PAGE_SIZE = 1000;
+
+    private volatile Index current = new Index();
+
+    // change log position the current index has caught up to; -1 until the first rebuild
+    private volatile long lastSeq = -1;
+
+    private final Object rebuildLock = new Object();
+
+    // one thread: changes are applied in order and never on a committing request thread
+    private final ExecutorService indexer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "employee-search-indexer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EmployeeChangeLog changeLog;
+
+    // read-write, so under the replica profile the scan reads the primary like the change log reads below
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            Index rebuilt = new Index();
+            long seq = transactionTemplate.execute(status -> {
+                // everything up to lastCommitted is committed, so the scan below sees it
+                long lastCommitted = changeLog.getLastSeq();
+                try (Stream<Employee> employees = employeeRepository.streamAll()) {
+                    employees.forEach(employee -> {
+                        rebuilt.index(view(employee));
+                        entityManager.detach(employee);
+                    });
+                }
+                return lastCommitted;
+            });
+            synchronized (this) {
+                // the scan may already have read some of these rows; replaying them in order ends at the latest
+                lastSeq = apply(rebuilt, seq);
+                current = rebuilt;
+            }
+        }
+    }
+
+    @TransactionalEventListener
+    public void onAppended(EmployeeChangeLog.Appended appended) {
+        indexer.execute(() -> catchUp(appended.lastSeq()));
+    }
+
+    @Scheduled(fixedDelayString = "${employee.search.catch-up-interval:PT1S}")
+    public void catchUp() {
+        catchUp(Long.MAX_VALUE);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        indexer.shutdownNow();
+    }
+
+    // upTo: nothing to do once an earlier run has applied that far, which saves the query for a burst of commits
+    private synchronized void catchUp(long upTo) {
+        if (lastSeq < 0 || lastSeq >= upTo) {
+            return;
+        }
+        lastSeq = apply(current, lastSeq);
+    }
+
+    private long apply(Index index, long since) {
+        EmployeeChangePage page;
+        do {
+            page = changeLog.getLatestChanges(since, CATCH_UP_PAGE_SIZE);
+            for (EmployeeChange change : page.getChanges()) {
+                if (change.getType() == EmployeeChange.Type.UPSERT) {
+                    index.index(new EmployeeView(change.getEmployeeId(), change.getFirstName(), change.getLastName(),
+                            change.getEmail(), change.getVersion() != null ? change.getVersion() : 0));
+                } else {
+                    index.remove(change.getEmployeeId());
+                }
+            }
+            since = page.getNextSince();
+        } while (page.getChanges().size() == CATCH_UP_PAGE_SIZE);
+        return since;
+    }
+
+    public int size() {
+        return current.documents.size();
+    }
+
+    /**
+     * Employees with a term starting with every word of the query, e.g. {@code "ada kum"} matches Adarsh Kumar.
+     * Results are ordered by the matched term of the longest query word, then by id.
+     */
+    public List<EmployeeView> search(String query, int limit) {
+        List<String> words = tokenize(query);
+        if (words.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        // the longest word has the narrowest range; the other words are checked per candidate
+        String driver = words.stream().max(Comparator.comparingInt(String::length)).get();
+
+        Index index = current;
+        ConcurrentNavigableMap<String, Set<Long>> range = index.terms.subMap(driver, true, driver + Character.MAX_VALUE, false);
+        Set<Long> seen = new HashSet<>();
+        List<EmployeeView> results = new ArrayList<>(Math.min(limit, 64));
+        for (Set<Long> ids : range.values()) {
+            for (Long id : ids) {
+                EmployeeView document = index.documents.get(id);
+                if (seen.add(id) && document != null && matchesAll(document, words)) {
+                    results.add(document);
+                    if (results.size() == limit) {
+                        return results;
+                    }
+                }
+            }
+        }
+        return results;
+    }
+
+    private static EmployeeView view(Employee employee) {
+        return new EmployeeView(employee.getId(), employee.getFirstName(), employee.getLastName(),
+                employee.getEmail(), employee.getVersion());
+    }
+
+    private static boolean matchesAll(EmployeeView document, List<String> words) {
+        Set<String> documentTerms = terms(document);
+        return words.stream().allMatch(word -> documentTerms.stream().anyMatch(term -> term.startsWith(word)));
+    }
+
+    // each word of the names plus the whole email
+    private static Set<String> terms(EmployeeView document) {
+        Set<String> terms = new HashSet<>();
+        terms.addAll(tokenize(document.getFirstName()));
+        terms.addAll(tokenize(document.getLastName()));
+        if (document.getEmail() != null) {
+            terms.add(document.getEmail().toLowerCase(Locale.ROOT));
+        }
+        return terms;
+    }
+
+    private static List<String> tokenize(String text) {
+        if (text == null) {
+            return List.of();
+        }
+        return Arrays.stream(text.toLowerCase(Locale.ROOT).split("\\s+"))
+                .filter(word -> !word.isEmpty())
+                .toList();
+    }
+
+    // terms and documents of one generation of the index; once serving, mutated under the EmployeeSearchIndex lock only
+    private static final class Index {
+        private final ConcurrentSkipListMap<String, Set<Long>> terms = new ConcurrentSkipListMap<>();
+        private final Map<Long, EmployeeView> documents = new ConcurrentHashMap<>();
+
+        private void index(EmployeeView document) {
+            EmployeeView previous = documents.put(document.getId(), document);
+            if (previous != null) {
+                removeTerms(previous);
+            }
+            for (String term : terms(document)) {
+                terms.computeIfAbsent(term, key -> new ConcurrentSkipListSet<>()).add(document.getId());
+            }
+        }
+
+        private void remove(long id) {
+            EmployeeView previous = documents.remove(id);
+            if (previous != null) {
+                removeTerms(previous);
+            }
+        }
+
+        private void removeTerms(EmployeeView document) {
+            for (String term : terms(document)) {
+                Set<Long> ids = terms.get(term);
+                if (ids != null) {
+                    ids.remove(document.getId());
+                    if (ids.isEmpty()) {
+                        terms.remove(term);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -1,48 +1,562 @@
 package com.example.service;
 
+import com.example.config.CacheConfig;
+import com.example.exception.InvalidRequestException;
 import com.example.exception.ResourceAlreadyExistsException;
 import com.example.exception.ResourceNotFoundException;
 import com.example.model.Employee;
+import com.example.model.EmployeeBatchResult;
+import com.example.model.EmployeeBulkResult;
+import com.example.model.EmployeeBulkUpdate;
+import com.example.model.EmployeeChangePage;
+import com.example.model.EmployeeFieldsPage;
+import com.example.model.EmployeeLookupResult;
+import com.example.model.EmployeePage;
+import com.example.model.EmployeePatch;
+import com.example.model.EmployeeRangeVersion;
+import com.example.model.EmployeeVersion;
+import com.example.model.EmployeeView;
+import com.example.repository.EmployeeFieldsRepository;
 import com.example.repository.EmployeeRepository;
+import io.micrometer.core.annotation.Counted;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 public class EmployeeService {
+    public static final int DEFAULT_PAGE_SIZE = 100;
+    public static final int MAX_PAGE_SIZE = 1000;
+    // keep in line with hibernate.jdbc.batch_size and the employees_seq allocation size
+    public static final int BATCH_SIZE = 50;
+    public static final int IN_LIST_SIZE = 1000;
+    public static final int DEFAULT_SUGGESTIONS = 10;
+    public static final int MAX_SUGGESTIONS = 100;
+    public static final int MAX_LOOKUP_SIZE = 10_000;
+
+    // per-operation latency timer and failure counter, tagged with operation (and exception for failures)
+    public static final String TIMER = "employee.service";
+    public static final String FAILURES = "employee.service.failures";
+
+    @Autowired
     private EmployeeRepository employeeRepository;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EmployeeSearchIndex searchIndex;
+
+    @Autowired
+    private EmployeeLookupCoalescer lookupCoalescer;
+
+    @Autowired
+    private EmployeeChangeLog changeLog;
+
+    @Autowired
+    private EmployeeMembershipFilter membershipFilter;
+
+    @Timed(value = TIMER, extraTags = {"operation", "save"}, histogram = true, percentiles = {0.5, 0.95, 0.99})
+    @Counted(value = FAILURES, extraTags = {"operation", "save"}, recordFailuresOnly = true)
+    @Transactional
     public Employee saveEmployee(Employee employee) {
-        Optional<Employee> savedEmployee = employeeRepository.findByEmail(employee.getEmail());
-        if (savedEmployee.isPresent()) {
-            throw new ResourceAlreadyExistsException("Employee already exist with given email:" + employee.getEmail());
+        // single insert; the unique constraint on email rejects duplicates atomically
+        Employee newEmployee;
+        try {
+            newEmployee = employeeRepository.saveAndFlush(employee);
+        } catch (DataIntegrityViolationException e) {
+            if (isDuplicateEmail(e)) {
+                throw new ResourceAlreadyExistsException("Employee already exist with given email:" + employee.getEmail(), e);
+            }
+            throw e;
+        }
+        membershipFilter.add(newEmployee.getId(), newEmployee.getEmail());
+        changeLog.appendUpserts(List.of(newEmployee.getId()));
+        evictFromCache(newEmployee);
+        return newEmployee;
+    }
+
+    @Timed(value = TIMER, extraTags = {"operation", "save-batch"}, histogram = true, percentiles = {0.5, 0.95, 0.99})
+    @Counted(value = FAILURES, extraTags = {"operation", "save-batch"}, recordFailuresOnly = true)
+    @Transactional
+    public List<EmployeeBatchResult> saveEmployees(List<Employee> employees) {
+        Set<String> existingEmails = findExistingEmails(employees);
+        Set<String> batchEmails = new HashSet<>();
+
+        List<EmployeeBatchResult> results = new ArrayList<>(employees.size());
+        List<Employee> newEmployees = new ArrayList<>(employees.size());
+        for (int i = 0; i < employees.size(); i++) {
+            Employee employee = employees.get(i);
+            if (employee.getFirstName() == null || employee.getLastName() == null || employee.getEmail() == null) {
+                results.add(new EmployeeBatchResult(i, EmployeeBatchResult.Status.INVALID, employee,
+                        "firstName, lastName and email are required"));
+            } else if (existingEmails.contains(employee.getEmail()) || !batchEmails.add(employee.getEmail())) {
+                results.add(new EmployeeBatchResult(i, EmployeeBatchResult.Status.DUPLICATE, employee,
+                        "Employee already exist with given email:" + employee.getEmail()));
+            } else {
+                results.add(new EmployeeBatchResult(i, EmployeeBatchResult.Status.CREATED, employee, null));
+                newEmployees.add(employee);
+            }
+        }
+
+        // flush and clear per JDBC batch so the persistence context doesn't grow with the request
+        for (int from = 0; from < newEmployees.size(); from += BATCH_SIZE) {
+            employeeRepository.saveAll(newEmployees.subList(from, Math.min(from + BATCH_SIZE, newEmployees.size())));
+            try {
+                employeeRepository.flush();
+            } catch (DataIntegrityViolationException e) {
+                // a concurrent create took one of the emails after the IN check; the whole batch rolls back
+                if (isDuplicateEmail(e)) {
+                    throw new ResourceAlreadyExistsException("Employee already exist with one of the given emails", e);
+                }
+                throw e;
+            }
+            entityManager.clear();
         }
-        return employeeRepository.save(employee);
+        newEmployees.forEach(employee -> membershipFilter.add(employee.getId(), employee.getEmail()));
+        changeLog.appendUpserts(newEmployees.stream().map(Employee::getId).toList());
+        newEmployees.forEach(this::evictFromCache);
+        return results;
     }
 
+    private Set<String> findExistingEmails(List<Employee> employees) {
+        // only emails the membership filter can't rule out are looked up
+        List<String> emails = employees.stream()
+                .map(Employee::getEmail)
+                .filter(Objects::nonNull)
+                .distinct()
+                .filter(membershipFilter::mightContainEmail)
+                .toList();
+
+        Set<String> existingEmails = new HashSet<>();
+        for (int from = 0; from < emails.size(); from += IN_LIST_SIZE) {
+            existingEmails.addAll(employeeRepository.findExistingEmails(emails.subList(from, Math.min(from + IN_LIST_SIZE, emails.size()))));
+        }
+        return existingEmails;
+    }
+
+    @Timed(value = TIMER, extraTags = {"operation", "get-all"}, histogram = true, percentiles = {0.5, 0.95, 0.99})
+    @Transactional(readOnly = true)
     public List<Employee> getAllEmployees() {
         return employeeRepository.findAll();
     }
 
+    @Timed(value = TIMER, extraTags = {"operation", "get-all-views"}, histogram = true, percentiles = {0.5, 0.95, 0.99})
+    @Transactional(readOnly = true)
+    public List<EmployeeView> getEmployeeViews() {
+        return employeeRepository.findAllViews();
+    }
+
+    @Timed(value = TIMER, extraTags = {"operation", "get-all-fields"}, histogram = true, percentiles = {0.5, 0.95, 0.99})
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getEmployeeFields(Collection<String> fields) {
+        checkFields(fields);
+        return employeeRepository.findFields(fields, null, null, 0, null);
+    }
+
+    // exact match on whichever names are given, keyset paged like getEmployeesPage
+    @Timed(value = TIMER, extraTags = {"operation", "search"}, histogram = true, percentiles = {0.5, 0.95, 0.99})
+    @Transactional(readOnly = true)
+    public EmployeeFieldsPage searchEmployees(String firstName, String lastName, Collection<String> fields, long after, int limit) {
+        checkFields(fields);
+        int pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+
+        // the cursor is the last row's id, so it is selected even when not asked for
+        boolean idSelected = fields.contains("id");
+        List<String> columns = idSelected ? List.copyOf(fields) : Stream.concat(Stream.of("id"), fields.stream()).toList();
+
+        // fetch one extra row to find out whether another page follows
+        List<Map<String, Object>> rows = employeeRepository.findFields(columns, firstName, lastName, after, pageSize + 1);
+        Long nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            nextCursor = ((Number) rows.get(pageSize - 1).get("id")).longValue();
+        }
+        if (!idSelected) {
+            rows.forEach(row -> row.remove("id"));
+        }
+        return new EmployeeFieldsPage(rows, nextCursor);
+    }
+
+    // type-ahead: prefix match on every word of the query, served from the in-memory index
+    @Timed(value = TIMER, extraTags = {"operation", "suggest"}, histogram = true, percentiles = {0.5, 0.95, 0.99})
+    public List<EmployeeView> suggestEmployees(String query, int limit) {
+        return searchIndex.search(query, Math.min(Math.max(limit, 1), MAX_SUGGESTIONS));
+    }
+
+    @Timed(value = TIMER, extraTags = {"operation", "get-page"}, histogram = true, percentiles = {0.5, 0.95, 0.99})
+    @Transactional(readOnly = true)
+    public EmployeePage getEmployeesPage(long after, int limit) {
+        int pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+
+        // fetch one extra row to find out whether another page follows
+        List<Employee> employees = employeeRepository.findByIdGreaterThanOrderByIdAsc(after, PageRequest.ofSize(pageSize + 1));
+        if (employees.size() <= pageSize) {
+            return new EmployeePage(employees, null);
+        }
+
+        List<Employee> page = employees.subList(0, pageSize);
+        return new EmployeePage(page, page.get(pageSize - 1).getId());
+    }
+
+    @Timed(value = TIMER, extraTags = {"operation", "get-changes"}, histogram = true, percentiles = {0.5, 0.95, 0.99})
+    public EmployeeChangePage getChanges(long since, int limit) {
+        return changeLog.getChanges(since, Math.min(Math.max(limit, 1), MAX_PAGE_SIZE));
+    }
+
+    // hands every employee to the consumer one at a time, detaching each so the persistence context stays empty
+    @Timed(value = TIMER, extraTags = {"operation", "export"}, histogram = true, percentiles = {0.5, 0.95, 0.99})
+    @Transactional(readOnly = true)
+    public void exportEmployees(Consumer<Employee> consumer) {
+        try (Stream<Employee> employees = employeeRepository.streamAll()) {
+            employees.forEach(employee -> {
+                consumer.accept(employee);
+                entityManager.detach(employee);
+            });
+        }
+    }
+
+    // no transaction here: the repository's own one only starts on a cache miss, behind the cache
+    @Timed(value = TIMER, extraTags = {"operation", "get-by-id"}, histogram = true, percentiles = {0.5, 0.95, 0.99})
     public Optional<Employee> getEmployeeById(long id) {
-        return employeeRepository.findById(id);
+        // ids that were never written are answered without touching the cache or the database
+        if (!membershipFilter.mightContainId(id)) {
+            return Optional.empty();
+        }
+        // concurrent lookups of the same id share one cache miss and query
+        Optional<Employee> employee = lookupCoalescer.byId(id, () -> employeeRepository.findById(id));
+        if (employee.isEmpty()) {
+            membershipFilter.recordIdFalsePositive();
+        }
+        return employee;
+    }
+
+    @Timed(value = TIMER, extraTags = {"operation", "get-by-email"}, histogram = true, percentiles = {0.5, 0.95, 0.99})
+    public Optional<Employee> getEmployeeByEmail(String email) {
+        if (!membershipFilter.mightContainEmail(email)) {
+            return Optional.empty();
+        }
+        Optional<Employee> employee = lookupCoalescer.byEmail(email, () -> employeeRepository.findByEmail(email));
+        if (employee.isEmpty()) {
+            membershipFilter.recordEmailFalsePositive();
+        }
+        return employee;
+    }
+
+    // multi-get: cache hits first, the misses with one IN query per chunk; results follow the requested order
+    @Timed(value = TIMER, extraTags = {"operation", "get-by-ids"}, histogram = true, percentiles = {0.5, 0.95, 0.99})
+    public List<EmployeeLookupResult> getEmployeesByIds(List<Long> ids) {
+        if (ids.size() > MAX_LOOKUP_SIZE) {
+            throw new InvalidRequestException("At most " + MAX_LOOKUP_SIZE + " ids can be looked up at once");
+        }
+        if (ids.stream().anyMatch(Objects::isNull)) {
+            throw new InvalidRequestException("Employee ids must not be null");
+        }
+
+        Cache cache = cacheManager.getCache(CacheConfig.EMPLOYEES_BY_ID);
+        Map<Long, Employee> employees = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        for (Long id : new LinkedHashSet<>(ids)) {
+            Employee cached = cache != null ? cache.get(id, Employee.class) : null;
+            if (cached != null) {
+                employees.put(id, cached);
+            } else if (membershipFilter.mightContainId(id)) {
+                misses.add(id);
+            }
+        }
+
+        for (int from = 0; from < misses.size(); from += IN_LIST_SIZE) {
+            for (Employee employee : employeeRepository.findAllById(misses.subList(from, Math.min(from + IN_LIST_SIZE, misses.size())))) {
+                employees.put(employee.getId(), employee);
+                if (cache != null) {
+                    // populated like a findById miss would be
+                    cache.putIfAbsent(employee.getId(), employee);
+                }
+            }
+        }
+
+        return ids.stream()
+                .map(id -> employees.containsKey(id)
+                        ? new EmployeeLookupResult(id, EmployeeLookupResult.Status.FOUND, employees.get(id))
+                        : new EmployeeLookupResult(id, EmployeeLookupResult.Status.NOT_FOUND, null))
+                .toList();
+    }
+
+    // conditional GET: the cached employee if there is one, else a version-only query instead of the whole row
+    @Timed(value = TIMER, extraTags = {"operation", "get-version"}, histogram = true, percentiles = {0.5, 0.95, 0.99})
+    public Optional<EmployeeVersion> getEmployeeVersion(long id) {
+        Cache cache = cacheManager.getCache(CacheConfig.EMPLOYEES_BY_ID);
+        Employee cached = cache != null ? cache.get(id, Employee.class) : null;
+        if (cached != null) {
+            return Optional.of(new EmployeeVersion(cached.getVersion(), cached.getUpdatedAt()));
+        }
+        if (!membershipFilter.mightContainId(id)) {
+            return Optional.empty();
+        }
+        return employeeRepository.findVersionById(id);
+    }
+
+    // conditional GET of getEmployeesPage(after, limit): aggregates the page's rows instead of reading them
+    @Timed(value = TIMER, extraTags = {"operation", "get-page-version"}, histogram = true, percentiles = {0.5, 0.95, 0.99})
+    @Transactional(readOnly = true)
+    public EmployeeRangeVersion getEmployeesPageVersion(long after, int limit) {
+        return employeeRepository.findRangeVersion(after, Math.min(Math.max(limit, 1), MAX_PAGE_SIZE));
+    }
+
+    // conditional GET of getEmployeeViews()
+    @Timed(value = TIMER, extraTags = {"operation", "get-all-version"}, histogram = true, percentiles = {0.5, 0.95, 0.99})
+    @Transactional(readOnly = true)
+    public EmployeeRangeVersion getEmployeesVersion() {
+        return employeeRepository.findRangeVersion(0, Integer.MAX_VALUE);
     }
 
+    @Timed(value = TIMER, extraTags = {"operation", "update"}, histogram = true, percentiles = {0.5, 0.95, 0.99})
+    @Counted(value = FAILURES, extraTags = {"operation", "update"}, recordFailuresOnly = true)
+    @Transactional
     public Employee updateEmployee(Employee updatedEmployee) {
-        Optional<Employee> employee = employeeRepository.findById(updatedEmployee.getId());
-        if(employee.isPresent()) {
-            employee.get().setFirstName(updatedEmployee.getFirstName());
-            employee.get().setLastName(updatedEmployee.getLastName());
-            employee.get().setEmail(updatedEmployee.getEmail());
+        long id = updatedEmployee.getId();
+        if (updatedEmployee.getFirstName() == null || updatedEmployee.getLastName() == null || updatedEmployee.getEmail() == null) {
+            throw new InvalidRequestException("firstName, lastName and email are required");
+        }
+        // read for the old email to evict; the instance may be the shared cached copy, so it is never mutated
+        Employee employee = employeeRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Employee doesn't exist with given email:" + id));
+
+        // full replacement: last writer wins, so concurrent PUTs never fail on a version the other one bumped
+        Instant updatedAt = now();
+        int updated;
+        try {
+            updated = employeeRepository.replace(id, updatedEmployee.getFirstName(), updatedEmployee.getLastName(),
+                    updatedEmployee.getEmail(), updatedAt);
+        } catch (DataIntegrityViolationException e) {
+            if (isDuplicateEmail(e)) {
+                throw new ResourceAlreadyExistsException("Employee already exist with given email:" + updatedEmployee.getEmail(), e);
+            }
+            throw e;
+        }
+        evictFromCache(employee);
+        if (updated == 0) {
+            // deleted since it was read
+            throw new ResourceNotFoundException("Employee doesn't exist with given email:" + id);
+        }
+        membershipFilter.add(id, updatedEmployee.getEmail());
+        changeLog.appendUpserts(List.of(id));
+
+        // the row stays locked until commit, so this is the version this replacement wrote
+        EmployeeVersion version = employeeRepository.findVersionById(id).orElseThrow();
+        Employee savedEmployee = updatedEmployee.toBuilder()
+                .version(version.getVersion())
+                .updatedAt(version.getUpdatedAt())
+                .build();
+        evictFromCache(savedEmployee);
+        return savedEmployee;
+    }
+
+    @Timed(value = TIMER, extraTags = {"operation", "patch"}, histogram = true, percentiles = {0.5, 0.95, 0.99})
+    @Counted(value = FAILURES, extraTags = {"operation", "patch"}, recordFailuresOnly = true)
+    @Transactional
+    public Employee patchEmployee(long id, EmployeePatch patch) {
+        // cache-first read: gives the old email to evict and, when the update applies to this version,
+        // everything needed to build the result without selecting the row again
+        Employee employee = findExisting(id);
+        long expectedVersion = patch.getVersion() != null ? patch.getVersion() : employee.getVersion();
+        Instant updatedAt = now();
 
-            return employeeRepository.save(updatedEmployee);
-        } else {
-            throw new ResourceNotFoundException("Employee doesn't exist with given email:" + updatedEmployee.getId());
+        if (applyPatch(id, patch, expectedVersion, updatedAt) == 0) {
+            evictFromCache(employee);
+            if (patch.getVersion() != null) {
+                throw new ObjectOptimisticLockingFailureException(Employee.class, id);
+            }
+            // no version from the client, so the miss can only mean the cached copy was stale: retry once from the database
+            employee = findExisting(id);
+            expectedVersion = employee.getVersion();
+            if (applyPatch(id, patch, expectedVersion, updatedAt) == 0) {
+                throw new ObjectOptimisticLockingFailureException(Employee.class, id);
+            }
+        }
+        if (patch.getEmail() != null) {
+            membershipFilter.add(id, patch.getEmail());
+        }
+        changeLog.appendUpserts(List.of(id));
+        evictFromCache(employee);
+
+        if (employee.getVersion() != expectedVersion) {
+            return findExisting(id);
+        }
+        Employee patchedEmployee = Employee.builder()
+                .id(id)
+                .firstName(patch.getFirstName() != null ? patch.getFirstName() : employee.getFirstName())
+                .lastName(patch.getLastName() != null ? patch.getLastName() : employee.getLastName())
+                .email(patch.getEmail() != null ? patch.getEmail() : employee.getEmail())
+                .version(expectedVersion + 1)
+                .updatedAt(updatedAt)
+                .build();
+        evictFromCache(patchedEmployee);
+        return patchedEmployee;
+    }
+
+    private static void checkFields(Collection<String> fields) {
+        if (fields.isEmpty()) {
+            throw new InvalidRequestException("At least one employee field must be selected");
+        }
+        for (String field : fields) {
+            if (!EmployeeFieldsRepository.FIELDS.contains(field)) {
+                throw new InvalidRequestException("Unknown employee field: " + field);
+            }
         }
     }
 
+    private Employee findExisting(long id) {
+        return employeeRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Employee doesn't exist with given id:" + id));
+    }
+
+    private int applyPatch(long id, EmployeePatch patch, long expectedVersion, Instant updatedAt) {
+        try {
+            return employeeRepository.patch(id, patch.getFirstName(), patch.getLastName(), patch.getEmail(), expectedVersion, updatedAt);
+        } catch (DataIntegrityViolationException e) {
+            if (isDuplicateEmail(e)) {
+                throw new ResourceAlreadyExistsException("Employee already exist with given email:" + patch.getEmail(), e);
+            }
+            throw e;
+        }
+    }
+
+    @Timed(value = TIMER, extraTags = {"operation", "delete"}, histogram = true, percentiles = {0.5, 0.95, 0.99})
+    @Counted(value = FAILURES, extraTags = {"operation", "delete"}, recordFailuresOnly = true)
+    @Transactional
     public void deleteEmployee(long id) {
-        employeeRepository.deleteById(id);
+        // look the employee up first (usually a cache hit) so its email entry can be evicted too
+        Optional<Employee> employee = employeeRepository.findById(id);
+        if (employeeRepository.deleteByIds(List.of(id)) > 0) {
+            changeLog.appendDeletes(List.of(id));
+        }
+        employee.ifPresent(this::evictFromCache);
+        evict(CacheConfig.EMPLOYEES_BY_ID, id);
+    }
+
+    @Timed(value = TIMER, extraTags = {"operation", "delete-bulk"}, histogram = true, percentiles = {0.5, 0.95, 0.99})
+    @Counted(value = FAILURES, extraTags = {"operation", "delete-bulk"}, recordFailuresOnly = true)
+    @Transactional
+    public EmployeeBulkResult deleteEmployees(Collection<Long> ids) {
+        List<Long> distinctIds = ids.stream().filter(Objects::nonNull).distinct().toList();
+
+        int deleted = 0;
+        List<Long> deletedIds = new ArrayList<>();
+        for (int from = 0; from < distinctIds.size(); from += IN_LIST_SIZE) {
+            List<Long> chunk = distinctIds.subList(from, Math.min(from + IN_LIST_SIZE, distinctIds.size()));
+            // ids only, for the tombstones
+            deletedIds.addAll(employeeRepository.findExistingIds(chunk));
+            deleted += employeeRepository.deleteByIds(chunk);
+        }
+        changeLog.appendDeletes(deletedIds);
+
+        // the deleted emails aren't known without reading the rows, so the email cache is dropped as a whole
+        distinctIds.forEach(id -> evict(CacheConfig.EMPLOYEES_BY_ID, id));
+        clear(CacheConfig.EMPLOYEES_BY_EMAIL);
+        return new EmployeeBulkResult(deleted);
+    }
+
+    @Timed(value = TIMER, extraTags = {"operation", "update-bulk"}, histogram = true, percentiles = {0.5, 0.95, 0.99})
+    @Counted(value = FAILURES, extraTags = {"operation", "update-bulk"}, recordFailuresOnly = true)
+    @Transactional
+    public EmployeeBulkResult updateEmployees(EmployeeBulkUpdate update) {
+        if (update.getFirstName() == null && update.getLastName() == null) {
+            throw new InvalidRequestException("firstName or lastName is required to select the employees to update");
+        }
+        if (update.getNewFirstName() == null && update.getNewLastName() == null) {
+            throw new InvalidRequestException("newFirstName or newLastName is required");
+        }
+
+        // the ids are read first so exactly the updated entries can be evicted and logged
+        List<Long> ids = employeeRepository.findIdsByName(update.getFirstName(), update.getLastName());
+        Instant updatedAt = now();
+        int updated = 0;
+        for (int from = 0; from < ids.size(); from += IN_LIST_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + IN_LIST_SIZE, ids.size()));
+            updated += employeeRepository.updateNamesByIds(chunk, update.getNewFirstName(), update.getNewLastName(), updatedAt);
+        }
+        changeLog.appendUpserts(ids);
+
+        // emails don't change, but the email cache holds whole employees with the old names
+        ids.forEach(id -> evict(CacheConfig.EMPLOYEES_BY_ID, id));
+        clear(CacheConfig.EMPLOYEES_BY_EMAIL);
+        return new EmployeeBulkResult(updated);
+    }
+
+    private static boolean isDuplicateEmail(DataIntegrityViolationException e) {
+        return e.getCause() instanceof ConstraintViolationException violation
+                && violation.getConstraintName() != null
+                && violation.getConstraintName().toLowerCase().contains(Employee.EMAIL_UNIQUE_CONSTRAINT);
+    }
+
+    private void evictFromCache(Employee employee) {
+        evict(CacheConfig.EMPLOYEES_BY_ID, employee.getId());
+        if (employee.getEmail() != null) {
+            evict(CacheConfig.EMPLOYEES_BY_EMAIL, employee.getEmail());
+        }
+    }
+
+    private void evict(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(key);
+            // and again when the transaction ends: a concurrent read may have cached the old row before the commit
+            afterCompletion(() -> cache.evict(key));
+        }
+    }
+
+    // the database keeps microseconds, so values built in memory are truncated to match what a re-read returns
+    private static Instant now() {
+        return Instant.now().truncatedTo(ChronoUnit.MICROS);
+    }
+
+    private void clear(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+            afterCompletion(cache::clear);
+        }
+    }
+
+
+    private static void afterCompletion(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    action.run();
+                }
+            });
+        }
     }
 }
@@ -0,0 +1,103 @@
+package com.example.service;
+
+import com.example.exception.InvalidRequestException;
+import com.example.exception.ResourceAlreadyExistsException;
+import com.example.exception.ResourceNotFoundException;
+import com.example.model.Employee;
+import com.example.model.EmployeePage;
+import com.example.repository.ShardedEmployeeRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * {@link EmployeeService} operations on the {@link ShardedEmployeeRepository}, active with the {@code sharded} profile.
+ * Ids are allocated by the repository, so they are ignored on create.
+ */
+@Service
+@Profile("sharded")
+public class ShardedEmployeeService {
+    public static final String TIMER = "employee.sharded";
+
+    // full replacements retried when a concurrent write bumped the version in between
+    private static final int MAX_UPDATE_ATTEMPTS = 3;
+
+    @Autowired
+    private ShardedEmployeeRepository shardedEmployeeRepository;
+
+    @Timed(value = TIMER, extraTags = {"operation", "save"}, histogram = true, percentiles = {0.5, 0.95, 0.99})
+    public Employee saveEmployee(Employee employee) {
+        checkRequired(employee);
+        try {
+            return shardedEmployeeRepository.insert(employee);
+        } catch (DuplicateKeyException e) {
+            throw new ResourceAlreadyExistsException("Employee already exist with given email:" + employee.getEmail(), e);
+        }
+    }
+
+    @Timed(value = TIMER, extraTags = {"operation", "get-by-id"}, histogram = true, percentiles = {0.5, 0.95, 0.99})
+    public Optional<Employee> getEmployeeById(long id) {
+        return shardedEmployeeRepository.findById(id);
+    }
+
+    @Timed(value = TIMER, extraTags = {"operation", "get-by-email"}, histogram = true, percentiles = {0.5, 0.95, 0.99})
+    public Optional<Employee> getEmployeeByEmail(String email) {
+        return shardedEmployeeRepository.findByEmail(email);
+    }
+
+    @Timed(value = TIMER, extraTags = {"operation", "get-page"}, histogram = true, percentiles = {0.5, 0.95, 0.99})
+    public EmployeePage getEmployeesPage(long after, int limit) {
+        int pageSize = Math.min(Math.max(limit, 1), EmployeeService.MAX_PAGE_SIZE);
+
+        // fetch one extra row to find out whether another page follows
+        List<Employee> employees = shardedEmployeeRepository.findPage(after, pageSize + 1);
+        if (employees.size() <= pageSize) {
+            return new EmployeePage(employees, null);
+        }
+
+        List<Employee> page = employees.subList(0, pageSize);
+        return new EmployeePage(page, page.get(pageSize - 1).getId());
+    }
+
+    @Timed(value = TIMER, extraTags = {"operation", "search"}, histogram = true, percentiles = {0.5, 0.95, 0.99})
+    public List<Employee> searchEmployees(String firstName, String lastName, long after, int limit) {
+        return shardedEmployeeRepository.findByName(firstName, lastName, after, Math.min(Math.max(limit, 1), EmployeeService.MAX_PAGE_SIZE));
+    }
+
+    // full replacement: last writer wins, like EmployeeService.updateEmployee
+    @Timed(value = TIMER, extraTags = {"operation", "update"}, histogram = true, percentiles = {0.5, 0.95, 0.99})
+    public Employee updateEmployee(Employee updatedEmployee) {
+        checkRequired(updatedEmployee);
+        long id = updatedEmployee.getId();
+        for (int attempt = 0; attempt < MAX_UPDATE_ATTEMPTS; attempt++) {
+            Employee employee = shardedEmployeeRepository.findById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Employee doesn't exist with given id:" + id));
+            try {
+                Optional<Employee> savedEmployee = shardedEmployeeRepository.update(employee, updatedEmployee);
+                if (savedEmployee.isPresent()) {
+                    return savedEmployee.get();
+                }
+            } catch (DuplicateKeyException e) {
+                throw new ResourceAlreadyExistsException("Employee already exist with given email:" + updatedEmployee.getEmail(), e);
+            }
+        }
+        throw new ObjectOptimisticLockingFailureException(Employee.class, id);
+    }
+
+    @Timed(value = TIMER, extraTags = {"operation", "delete"}, histogram = true, percentiles = {0.5, 0.95, 0.99})
+    public void deleteEmployee(long id) {
+        shardedEmployeeRepository.deleteById(id);
+    }
+
+    private static void checkRequired(Employee employee) {
+        if (employee.getFirstName() == null || employee.getLastName() == null || employee.getEmail() == null) {
+            throw new InvalidRequestException("firstName, lastName and email are required");
+        }
+    }
+}
@@ -0,0 +1,19 @@
+-- run on every shard of the sharded profile at startup
+create table if not exists employees (
+    id bigint primary key,
+    first_name varchar(255) not null,
+    last_name varchar(255) not null,
+    -- unique across shards through employee_emails, not per table
+    email varchar(255) not null,
+    version bigint not null,
+    updated_at timestamp(6) not null
+);
+
+create index if not exists idx_employees_full_name on employees (first_name, last_name);
+
+-- email directory: each email lives on the shard its hash picks, pointing at the employee that holds it
+create table if not exists employee_emails (
+    email varchar(255) primary key,
+    employee_id bigint not null,
+    claimed_at timestamp(6) not null
+);
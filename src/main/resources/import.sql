@@ -0,0 +1,2 @@
+-- run by Hibernate after it creates the schema: the change log's sequence counter starts at 0
+insert into employee_change_counter (id, last_seq) values (1, 0);
@@ -0,0 +1,80 @@
+package com.example.controller;
+
+import com.example.model.Employee;
+import com.example.service.ReactiveEmployeeService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.mockito.BDDMockito.given;
+
+@WebFluxTest(ReactiveEmployeeController.class)
+@ActiveProfiles("reactive")
+public class ReactiveEmployeeControllerTests {
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockBean
+    private ReactiveEmployeeService employeeServiceMock;
+
+    // writes go to the servlet API, which maintains the change log, caches and indexes
+    @Test
+    @DisplayName("createEmployee - not supported")
+    public void givenEmployeeObject_whenCreateEmployee_thenMethodNotAllowed() {
+        // given
+        Employee employee = Employee.builder().firstName("Adarsh").lastName("Kumar").email("adarsh@gmail.com").build();
+
+        // when
+        webTestClient.post().uri("/api/employees")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(employee)
+                .exchange()
+                // then
+                .expectStatus().isEqualTo(HttpStatus.METHOD_NOT_ALLOWED);
+    }
+
+    // streaming get all operation
+    @Test
+    @DisplayName("getAllEmployees - ndjson")
+    public void givenEmployeeList_whenGetAllEmployeesAsNdjson_thenEmployeesStreamed() {
+        // given
+        given(employeeServiceMock.getAllEmployees()).willReturn(Flux.just(
+                Employee.builder().id(1L).firstName("Adarsh").lastName("Kumar").email("adarsh@gmail.com").build(),
+                Employee.builder().id(2L).firstName("Anand").lastName("Kumar").email("anand@gmail.com").build()));
+
+        // when
+        Flux<Employee> employees = webTestClient.get().uri("/api/employees")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                // then
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(Employee.class)
+                .getResponseBody();
+
+        StepVerifier.create(employees).expectNextCount(2).verifyComplete();
+    }
+
+    // get by id operation - return empty
+    @Test
+    @DisplayName("getEmployeeById")
+    public void givenInvalidEmployeeId_whenGetEmployeeById_thenNotFound() {
+        // given
+        given(employeeServiceMock.getEmployeeById(1L)).willReturn(Mono.empty());
+
+        // when
+        webTestClient.get().uri("/api/employees/{id}", 1L)
+                .exchange()
+                // then
+                .expectStatus().isNotFound();
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.repository;
+
+import com.example.model.Employee;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import reactor.test.StepVerifier;
+
+@SpringBootTest
+@ActiveProfiles("reactive")
+public class ReactiveEmployeeRepositoryTests {
+
+    @Autowired
+    private ReactiveEmployeeRepository employeeRepository;
+
+    @Autowired
+    private EmployeeRepository jpaEmployeeRepository;
+
+    private Employee employee;
+
+    @BeforeEach
+    public void setup() {
+        jpaEmployeeRepository.deleteAllInBatch();
+        employee = Employee.builder()
+                .firstName("Adarsh")
+                .lastName("Kumar")
+                .email("adarsh@gmail.com")
+                .build();
+    }
+
+    // streaming get all operation
+    @Test
+    @DisplayName("findAll")
+    public void givenEmployeeList_whenFindAll_thenEmployeesInIdOrder() {
+        // given
+        jpaEmployeeRepository.save(employee);
+        jpaEmployeeRepository.save(Employee.builder().firstName("Anand").lastName("Kumar").email("anand@gmail.com").build());
+
+        // when
+        StepVerifier.create(employeeRepository.findAll())
+                // then
+                .assertNext(employeeDB -> assertThat(employeeDB.getEmail()).isEqualTo("adarsh@gmail.com"))
+                .assertNext(employeeDB -> assertThat(employeeDB.getEmail()).isEqualTo("anand@gmail.com"))
+                .verifyComplete();
+    }
+
+    // get by id operation
+    @Test
+    @DisplayName("findById")
+    public void givenEmployeeId_whenFindById_thenEmployee() {
+        // given
+        long employeeId = jpaEmployeeRepository.save(employee).getId();
+
+        // when
+        StepVerifier.create(employeeRepository.findById(employeeId))
+                // then
+                .assertNext(employeeDB -> assertThat(employeeDB.getEmail()).isEqualTo(employee.getEmail()))
+                .verifyComplete();
+    }
+
+    // keyset pagination operation
+    @Test
+    @DisplayName("findByIdGreaterThan")
+    public void givenEmployeeList_whenFindByIdGreaterThan_thenNextEmployeesInIdOrder() {
+        // given
+        Employee first = jpaEmployeeRepository.save(employee);
+        jpaEmployeeRepository.save(Employee.builder().firstName("Anand").lastName("Kumar").email("anand@gmail.com").build());
+        jpaEmployeeRepository.save(Employee.builder().firstName("Amit").lastName("Kumar").email("amit@gmail.com").build());
+
+        // when
+        StepVerifier.create(employeeRepository.findByIdGreaterThan(first.getId(), 1))
+                // then
+                .assertNext(employeeDB -> assertThat(employeeDB.getEmail()).isEqualTo("anand@gmail.com"))
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.service;
+
+import com.example.model.Employee;
+import com.example.repository.ReactiveEmployeeRepository;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.mockito.BDDMockito.given;
+
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+public class ReactiveEmployeeServiceTests {
+    @Mock
+    private ReactiveEmployeeRepository employeeRepositoryMock;
+
+    @InjectMocks
+    private ReactiveEmployeeService underTest;
+
+    private Employee employee;
+
+    @BeforeEach
+    public void setup() {
+        employee = Employee.builder()
+                .id(1L)
+                .firstName("Adarsh")
+                .lastName("Kumar")
+                .email("adarsh@gmail.com")
+                .build();
+    }
+
+    // keyset pagination operation
+    @Test
+    @DisplayName("getEmployeesPage")
+    public void givenMoreEmployeesThanLimit_whenGetEmployeesPage_thenPageWithNextCursor() {
+        // given
+        Employee employee1 = Employee.builder().id(2L).firstName("Anand").lastName("Kumar").email("anand@gmail.com").build();
+        given(employeeRepositoryMock.findByIdGreaterThan(0, 2)).willReturn(Flux.just(employee, employee1));
+
+        // when
+        StepVerifier.create(underTest.getEmployeesPage(0, 1))
+                // then
+                .assertNext(page -> {
+                    assertThat(page.getEmployees()).containsExactly(employee);
+                    assertThat(page.getNextCursor()).isEqualTo(employee.getId());
+                })
+                .verifyComplete();
+    }
+
+    // get by id operation
+    @Test
+    @DisplayName("getEmployeeById")
+    public void givenEmployeeId_whenGetEmployeeById_thenEmployee() {
+        // given
+        given(employeeRepositoryMock.findById(1L)).willReturn(Mono.just(employee));
+
+        // when
+        StepVerifier.create(underTest.getEmployeeById(1L))
+                // then
+                .expectNext(employee)
+                .verifyComplete();
+    }
+}
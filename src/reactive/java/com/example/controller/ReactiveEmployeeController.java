@@ -0,0 +1,45 @@
+package com.example.controller;
+
+import com.example.model.Employee;
+import com.example.model.EmployeePage;
+import com.example.service.EmployeeService;
+import com.example.service.ReactiveEmployeeService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * WebFlux counterpart of the reads of {@link EmployeeController} on the same paths, active with the {@code reactive}
+ * profile. Writes answer 405, see {@link ReactiveEmployeeService}.
+ */
+@RestController
+@RequestMapping("/api/employees")
+@Profile("reactive")
+public class ReactiveEmployeeController {
+
+    @Autowired
+    private ReactiveEmployeeService employeeService;
+
+    // with Accept: application/x-ndjson rows are streamed one by one, under the client's backpressure
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<Employee> getAllEmployees() {
+        return employeeService.getAllEmployees();
+    }
+
+    @GetMapping("page")
+    public Mono<EmployeePage> getEmployeesPage(@RequestParam(value = "after", defaultValue = "0") long after,
+                                               @RequestParam(value = "limit", defaultValue = "" + EmployeeService.DEFAULT_PAGE_SIZE) int limit) {
+        return employeeService.getEmployeesPage(after, limit);
+    }
+
+    @GetMapping("{id}")
+    public Mono<ResponseEntity<Employee>> getEmployeeById(@PathVariable("id") long employeeId) {
+        return employeeService.getEmployeeById(employeeId)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.repository;
+
+import com.example.model.Employee;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Non-blocking, read-only counterpart of {@link EmployeeRepository} over R2DBC, used by the {@code reactive} profile.
+ * The schema is still created by JPA on the same database.
+ */
+@Repository
+@Profile("reactive")
+public class ReactiveEmployeeRepository {
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    public Mono<Employee> findById(long id) {
+        return databaseClient.sql("select * from employees where id = :id")
+                .bind("id", id)
+                .map(ReactiveEmployeeRepository::toEmployee)
+                .one();
+    }
+
+    public Mono<Employee> findByEmail(String email) {
+        return databaseClient.sql("select * from employees where email = :email")
+                .bind("email", email)
+                .map(ReactiveEmployeeRepository::toEmployee)
+                .one();
+    }
+
+    // rows are emitted as the subscriber requests them, so a slow client slows the cursor instead of buffering
+    public Flux<Employee> findAll() {
+        return databaseClient.sql("select * from employees order by id")
+                .map(ReactiveEmployeeRepository::toEmployee)
+                .all();
+    }
+
+    // keyset pagination: seeks past the cursor on the primary key instead of using OFFSET
+    public Flux<Employee> findByIdGreaterThan(long id, int limit) {
+        return databaseClient.sql("select * from employees where id > :id order by id limit :limit")
+                .bind("id", id)
+                .bind("limit", limit)
+                .map(ReactiveEmployeeRepository::toEmployee)
+                .all();
+    }
+
+    private static Employee toEmployee(Row row, RowMetadata metadata) {
+        return Employee.builder()
+                .id(row.get("id", Long.class))
+                .firstName(row.get("first_name", String.class))
+                .lastName(row.get("last_name", String.class))
+                .email(row.get("email", String.class))
+                .version(row.get("version", Long.class))
+                .updatedAt(row.get("updated_at", OffsetDateTime.class).toInstant())
+                .build();
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.service;
+
+import com.example.model.Employee;
+import com.example.model.EmployeePage;
+import com.example.repository.ReactiveEmployeeRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Non-blocking counterpart of {@link EmployeeService}, used by the {@code reactive} profile.
+ * <p>
+ * Reads only. Every write has to maintain the change log, the caches, the search index and the membership filters,
+ * which {@link EmployeeService} does inside its JPA transactions; writes therefore go to the servlet nodes.
+ */
+@Service
+@Profile("reactive")
+public class ReactiveEmployeeService {
+    @Autowired
+    private ReactiveEmployeeRepository employeeRepository;
+
+    public Flux<Employee> getAllEmployees() {
+        return employeeRepository.findAll();
+    }
+
+    public Mono<EmployeePage> getEmployeesPage(long after, int limit) {
+        int pageSize = Math.min(Math.max(limit, 1), EmployeeService.MAX_PAGE_SIZE);
+
+        // fetch one extra row to find out whether another page follows
+        return employeeRepository.findByIdGreaterThan(after, pageSize + 1)
+                .collectList()
+                .map(employees -> {
+                    if (employees.size() <= pageSize) {
+                        return new EmployeePage(employees, null);
+                    }
+                    List<Employee> page = employees.subList(0, pageSize);
+                    return new EmployeePage(page, page.get(pageSize - 1).getId());
+                });
+    }
+
+    public Mono<Employee> getEmployeeById(long id) {
+        return employeeRepository.findById(id);
+    }
+}
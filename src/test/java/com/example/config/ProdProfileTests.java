@@ -0,0 +1,65 @@
+package com.example.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("prod")
+public class ProdProfileTests {
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    @DisplayName("prod profile - tuned pool, no open-in-view")
+    public void givenProdProfile_whenStarted_thenPoolTunedAndOpenInViewDisabled() {
+        // given
+        HikariDataSource hikari = (HikariDataSource) dataSource;
+
+        // when
+        ResponseEntity<String> response = restTemplate.getForEntity("/api/employees/page", String.class);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(context.getBeansOfType(OpenEntityManagerInViewInterceptor.class)).isEmpty();
+        assertThat(hikari.getMaximumPoolSize()).isEqualTo(20);
+        assertThat(hikari.isAutoCommit()).isFalse();
+    }
+
+    @Test
+    @DisplayName("prod profile - pool saturation metrics")
+    public void givenProdProfile_whenRequestHandled_thenPoolMetricsPublished() {
+        // given
+        String pool = "employees-pool";
+
+        // when
+        restTemplate.getForEntity("/api/employees/page", String.class);
+
+        // then
+        assertThat(meterRegistry.find("hikaricp.connections.active").tag("pool", pool).gauge()).isNotNull();
+        assertThat(meterRegistry.find("hikaricp.connections.pending").tag("pool", pool).gauge()).isNotNull();
+        assertThat(meterRegistry.find("hikaricp.connections.acquire").tag("pool", pool).timer().count()).isPositive();
+    }
+}
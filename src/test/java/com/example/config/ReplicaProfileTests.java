@@ -0,0 +1,107 @@
+package com.example.config;
+
+import com.example.model.Employee;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// the replica only catches up when a test syncs it
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "employee.datasource.replica.sync-interval=PT1H")
+@ActiveProfiles("replica")
+public class ReplicaProfileTests {
+    @Autowired
+    private H2ReplicaSync replicaSync;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    // read-only service methods run on the replica, which only has what was synced
+    @Test
+    @DisplayName("replica profile - reads routed to replica")
+    public void givenUnsyncedWrite_whenReadPage_thenReplicaServesIt() throws Exception {
+        // given
+        ResponseEntity<Employee> created = create("replica.lagging@gmail.com");
+        String after = String.valueOf(created.getBody().getId() - 1);
+
+        // when
+        String beforeSync = restTemplate.getForObject("/api/employees/page?after={after}&limit=1", String.class, after);
+        replicaSync.sync();
+        String afterSync = restTemplate.getForObject("/api/employees/page?after={after}&limit=1", String.class, after);
+
+        // then
+        assertThat(beforeSync).doesNotContain("replica.lagging@gmail.com");
+        assertThat(afterSync).contains("replica.lagging@gmail.com");
+    }
+
+    // a client that just wrote reads from the primary
+    @Test
+    @DisplayName("replica profile - read your writes")
+    public void givenRecentWrite_whenReadPageWithCookie_thenPrimaryServesIt() {
+        // given
+        ResponseEntity<Employee> created = create("replica.sticky@gmail.com");
+        String cookie = created.getHeaders().getFirst(HttpHeaders.SET_COOKIE);
+
+        // when
+        HttpHeaders headers = new HttpHeaders();
+        headers.add(HttpHeaders.COOKIE, cookie.split(";", 2)[0]);
+        ResponseEntity<String> response = restTemplate.exchange("/api/employees/page?after={after}&limit=1", HttpMethod.GET,
+                new HttpEntity<>(headers), String.class, created.getBody().getId() - 1);
+
+        // then
+        assertThat(created.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(cookie).startsWith(ReadYourWritesFilter.COOKIE + "=");
+        assertThat(response.getBody()).contains("replica.sticky@gmail.com");
+    }
+
+    // lookups fill the shared cache, so their misses read the primary even without the cookie
+    @Test
+    @DisplayName("replica profile - cache misses read the primary")
+    public void givenUnsyncedEmployee_whenGetById_thenFound() {
+        // given
+        ResponseEntity<Employee> created = create("replica.lookup@gmail.com");
+
+        // when
+        ResponseEntity<String> response = restTemplate.getForEntity("/api/employees/{id}", String.class, created.getBody().getId());
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).contains("replica.lookup@gmail.com");
+    }
+
+    // a multi-get POST is a read and doesn't pin the client to the primary
+    @Test
+    @DisplayName("replica profile - multi-get is not a write")
+    public void givenMultiGetPost_whenHandled_thenNoPrimaryCookie() {
+        // given
+        HttpHeaders json = new HttpHeaders();
+        json.setContentType(MediaType.APPLICATION_JSON);
+
+        // when
+        ResponseEntity<String> response = restTemplate.postForEntity("/api/employees/_mget", new HttpEntity<>(List.of(1L, 2L), json), String.class);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().get(HttpHeaders.SET_COOKIE)).isNull();
+    }
+
+    private ResponseEntity<Employee> create(String email) {
+        HttpHeaders json = new HttpHeaders();
+        json.setContentType(MediaType.APPLICATION_JSON);
+        return restTemplate.postForEntity("/api/employees",
+                new HttpEntity<>(Map.of("firstName", "Replica", "lastName", "Test", "email", email), json), Employee.class);
+    }
+}
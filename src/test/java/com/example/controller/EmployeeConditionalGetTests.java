@@ -0,0 +1,63 @@
+package com.example.controller;
+
+import com.example.model.Employee;
+import com.example.service.EmployeeService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class EmployeeConditionalGetTests {
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    // a full last page has no next cursor until an employee is created after it
+    @Test
+    @DisplayName("getEmployeesPage - insert after a full last page")
+    public void givenCachedFullLastPage_whenEmployeeCreatedAfterIt_thenConditionalGetReturnsPage() throws Exception {
+        // given
+        Employee first = employeeService.saveEmployee(employee());
+        employeeService.saveEmployee(employee());
+        String after = String.valueOf(first.getId() - 1);
+        String eTag = mockMvc.perform(get("/api/employees/page").param("after", after).param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nextCursor", nullValue()))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // when
+        employeeService.saveEmployee(employee());
+        ResultActions response = mockMvc.perform(get("/api/employees/page")
+                .param("after", after)
+                .param("limit", "2")
+                .header(HttpHeaders.IF_NONE_MATCH, eTag));
+
+        // then
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$.employees.size()", is(2)))
+                .andExpect(jsonPath("$.nextCursor").isNumber());
+    }
+
+    private static Employee employee() {
+        String name = UUID.randomUUID().toString().substring(0, 8);
+        return Employee.builder().firstName("Page").lastName(name).email(name + "@example.com").build();
+    }
+}
@@ -1,6 +1,26 @@
 package com.example.controller;
 
 import com.example.model.Employee;
+import com.example.model.EmployeeBatchResult;
+import com.example.model.EmployeeBulkResult;
+import com.example.model.EmployeeBulkUpdate;
+import com.example.model.EmployeeChange;
+import com.example.model.EmployeeChangePage;
+import com.example.model.EmployeeFieldsPage;
+import com.example.model.EmployeeImport;
+import com.example.model.EmployeeIngestTicket;
+import com.example.model.EmployeeLookupResult;
+import com.example.exception.IngestQueueClosedException;
+import com.example.exception.IngestQueueFullException;
+import com.example.exception.InvalidRequestException;
+import com.example.model.EmployeePage;
+import com.example.model.EmployeePatch;
+import com.example.model.EmployeeRangeVersion;
+import com.example.model.EmployeeVersion;
+import com.example.model.EmployeeView;
+import com.example.service.EmployeeChangeBroadcaster;
+import com.example.service.EmployeeCsvImporter;
+import com.example.service.EmployeeIngestQueue;
 import com.example.service.EmployeeService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
@@ -8,21 +28,37 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(EmployeeController.class)
@@ -36,6 +72,15 @@ public class EmployeeControllerTests {
     @MockBean
     private EmployeeService employeeServiceMock;
 
+    @MockBean
+    private EmployeeIngestQueue employeeIngestQueueMock;
+
+    @MockBean
+    private EmployeeChangeBroadcaster employeeChangeBroadcasterMock;
+
+    @MockBean
+    private EmployeeCsvImporter employeeCsvImporterMock;
+
     // save operation
     @Test
     @DisplayName("createEmployee")
@@ -64,16 +109,257 @@ public class EmployeeControllerTests {
                 .andExpect(jsonPath("$.email", is(employee.getEmail())));
     }
 
+    // bulk save operation
+    @Test
+    @DisplayName("createEmployees")
+    public void givenEmployeeList_whenCreateEmployees_thenPerItemResults() throws Exception {
+        // given
+        List<Employee> listOfEmployees = List.of(
+                Employee.builder().firstName("Adarsh").lastName("Kumar").email("adarsh@gmail.com").build(),
+                Employee.builder().firstName("Anand").lastName("Kumar").email("adarsh@gmail.com").build());
+
+        given(employeeServiceMock.saveEmployees(anyList())).willReturn(List.of(
+                new EmployeeBatchResult(0, EmployeeBatchResult.Status.CREATED, listOfEmployees.get(0), null),
+                new EmployeeBatchResult(1, EmployeeBatchResult.Status.DUPLICATE, listOfEmployees.get(1), "duplicate")));
+
+        // when
+        ResultActions response = mockMvc.perform(post("/api/employees/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(listOfEmployees)));
+
+        // then
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$.size()", is(listOfEmployees.size())))
+                .andExpect(jsonPath("$[0].status", is("CREATED")))
+                .andExpect(jsonPath("$[1].status", is("DUPLICATE")));
+    }
+
+    // asynchronous create operation
+    @Test
+    @DisplayName("ingestEmployee")
+    public void givenEmployeeObject_whenIngestEmployee_thenAcceptedWithTicket() throws Exception {
+        // given
+        Employee employee = Employee.builder().firstName("Adarsh").lastName("Kumar").email("adarsh@gmail.com").build();
+        given(employeeIngestQueueMock.submit(any(Employee.class)))
+                .willReturn(new EmployeeIngestTicket("ticket-1", EmployeeIngestTicket.Status.QUEUED, employee, null));
+
+        // when
+        ResultActions response = mockMvc.perform(post("/api/employees/ingest")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(employee)));
+
+        // then
+        response.andExpect(status().isAccepted())
+                .andDo(print())
+                .andExpect(header().string(HttpHeaders.LOCATION, "/api/employees/ingest/ticket-1"))
+                .andExpect(jsonPath("$.status", is("QUEUED")));
+    }
+
+    // CSV import operation
+    @Test
+    @DisplayName("importEmployees")
+    public void givenCsvBody_whenImportEmployees_thenImportSummary() throws Exception {
+        // given
+        String csv = "firstName,lastName,email\nAdarsh,Kumar,adarsh@gmail.com\n";
+        given(employeeCsvImporterMock.importCsv(eq("import-1"), any())).willReturn(EmployeeImport.builder()
+                .id("import-1").status(EmployeeImport.Status.COMPLETED).committedLines(2).imported(1).build());
+
+        // when
+        ResultActions response = mockMvc.perform(post("/api/employees/import")
+                .param("id", "import-1")
+                .contentType("text/csv")
+                .content(csv));
+
+        // then
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$.status", is("COMPLETED")))
+                .andExpect(jsonPath("$.imported", is(1)));
+    }
+
+    // asynchronous create operation - queue full
+    @Test
+    @DisplayName("ingestEmployee - too many requests")
+    public void givenFullQueue_whenIngestEmployee_thenTooManyRequests() throws Exception {
+        // given
+        Employee employee = Employee.builder().firstName("Adarsh").lastName("Kumar").email("adarsh@gmail.com").build();
+        given(employeeIngestQueueMock.submit(any(Employee.class)))
+                .willThrow(new IngestQueueFullException("Employee ingestion queue is full, retry later"));
+
+        // when
+        ResultActions response = mockMvc.perform(post("/api/employees/ingest")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(employee)));
+
+        // then
+        response.andExpect(status().isTooManyRequests())
+                .andDo(print());
+    }
+
+    // asynchronous create operation - shutting down
+    @Test
+    @DisplayName("ingestEmployee - service unavailable")
+    public void givenStoppedQueue_whenIngestEmployee_thenServiceUnavailable() throws Exception {
+        // given
+        Employee employee = Employee.builder().firstName("Adarsh").lastName("Kumar").email("adarsh@gmail.com").build();
+        given(employeeIngestQueueMock.submit(any(Employee.class)))
+                .willThrow(new IngestQueueClosedException("Employee ingestion is not accepting requests"));
+
+        // when
+        ResultActions response = mockMvc.perform(post("/api/employees/ingest")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(employee)));
+
+        // then
+        response.andExpect(status().isServiceUnavailable())
+                .andDo(print());
+    }
+
+    // asynchronous create operation - ticket status
+    @Test
+    @DisplayName("getIngestTicket")
+    public void givenTicketId_whenGetIngestTicket_thenTicket() throws Exception {
+        // given
+        Employee employee = Employee.builder().id(1L).firstName("Adarsh").lastName("Kumar").email("adarsh@gmail.com").build();
+        given(employeeIngestQueueMock.getTicket("ticket-1"))
+                .willReturn(Optional.of(new EmployeeIngestTicket("ticket-1", EmployeeIngestTicket.Status.CREATED, employee, null)));
+
+        // when
+        ResultActions response = mockMvc.perform(get("/api/employees/ingest/{ticketId}", "ticket-1"));
+
+        // then
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$.status", is("CREATED")))
+                .andExpect(jsonPath("$.employee.id", is(1)));
+    }
+
+    // bulk update operation
+    @Test
+    @DisplayName("updateEmployees")
+    public void givenBulkUpdate_whenUpdateEmployees_thenAffectedCount() throws Exception {
+        // given
+        EmployeeBulkUpdate update = EmployeeBulkUpdate.builder().lastName("Kumar").newLastName("Verma").build();
+        given(employeeServiceMock.updateEmployees(update)).willReturn(new EmployeeBulkResult(2));
+
+        // when
+        ResultActions response = mockMvc.perform(post("/api/employees/bulk-update")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(update)));
+
+        // then
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$.affected", is(2)));
+    }
+
+    // bulk delete operation
+    @Test
+    @DisplayName("deleteEmployees")
+    public void givenEmployeeIds_whenDeleteEmployees_thenAffectedCount() throws Exception {
+        // given
+        given(employeeServiceMock.deleteEmployees(List.of(1L, 2L, 3L))).willReturn(new EmployeeBulkResult(3));
+
+        // when
+        ResultActions response = mockMvc.perform(post("/api/employees/bulk-delete")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[1, 2, 3]"));
+
+        // then
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$.affected", is(3)));
+    }
+
+    // get by email operation
+    @Test
+    @DisplayName("getEmployeeByEmail")
+    public void givenEmployeeEmail_whenGetEmployeeByEmail_thenEmployee() throws Exception {
+        // given
+        Employee employee = Employee.builder().id(1L).firstName("Adarsh").lastName("Kumar").email("adarsh@gmail.com").build();
+        given(employeeServiceMock.getEmployeeByEmail(employee.getEmail())).willReturn(Optional.of(employee));
+
+        // when
+        ResultActions response = mockMvc.perform(get("/api/employees").param("email", employee.getEmail()));
+
+        // then
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$.id", is(1)));
+    }
+
+    // multi-get operation - query string
+    @Test
+    @DisplayName("getEmployeesByIds")
+    public void givenEmployeeIds_whenGetEmployeesByIds_thenResultPerId() throws Exception {
+        // given
+        Employee employee = Employee.builder().id(1L).firstName("Adarsh").lastName("Kumar").email("adarsh@gmail.com").build();
+        given(employeeServiceMock.getEmployeesByIds(List.of(1L, 2L))).willReturn(List.of(
+                new EmployeeLookupResult(1L, EmployeeLookupResult.Status.FOUND, employee),
+                new EmployeeLookupResult(2L, EmployeeLookupResult.Status.NOT_FOUND, null)));
+
+        // when
+        ResultActions response = mockMvc.perform(get("/api/employees").param("ids", "1,2"));
+
+        // then
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$.size()", is(2)))
+                .andExpect(jsonPath("$[0].status", is("FOUND")))
+                .andExpect(jsonPath("$[0].employee.email", is(employee.getEmail())))
+                .andExpect(jsonPath("$[1].status", is("NOT_FOUND")));
+    }
+
+    // multi-get operation - request body
+    @Test
+    @DisplayName("getEmployeesByIds - _mget")
+    public void givenEmployeeIdsInBody_whenMultiGet_thenResultPerId() throws Exception {
+        // given
+        given(employeeServiceMock.getEmployeesByIds(List.of(3L, 4L))).willReturn(List.of(
+                new EmployeeLookupResult(3L, EmployeeLookupResult.Status.NOT_FOUND, null),
+                new EmployeeLookupResult(4L, EmployeeLookupResult.Status.NOT_FOUND, null)));
+
+        // when
+        ResultActions response = mockMvc.perform(post("/api/employees/_mget")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[3, 4]"));
+
+        // then
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$[0].id", is(3)))
+                .andExpect(jsonPath("$[1].id", is(4)));
+    }
+
+    // change feed operation
+    @Test
+    @DisplayName("getChanges")
+    public void givenSince_whenGetChanges_thenChangesAfterIt() throws Exception {
+        // given
+        EmployeeChange change = EmployeeChange.builder().seq(8).employeeId(1L).type(EmployeeChange.Type.DELETE).changedAt(Instant.now()).build();
+        given(employeeServiceMock.getChanges(7, 100)).willReturn(new EmployeeChangePage(List.of(change), 8));
+
+        // when
+        ResultActions response = mockMvc.perform(get("/api/employees/changes").param("since", "7"));
+
+        // then
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$.changes[0].type", is("DELETE")))
+                .andExpect(jsonPath("$.nextSince", is(8)));
+    }
+
     // get all operation
     @Test
     @DisplayName("getAllEmployees")
     public void givenEmployeeList_whenGetAllEmployee_thenEmployeesList() throws Exception {
         // given
-        List<Employee> listOfEmployees = new ArrayList<>();
-        listOfEmployees.add(Employee.builder().firstName("Adarsh").lastName("Kumar").email("adarsh@gmail.com").build());
-        listOfEmployees.add(Employee.builder().firstName("Anand").lastName("Kumar").email("anand@gmail.com").build());
+        List<EmployeeView> listOfEmployees = new ArrayList<>();
+        listOfEmployees.add(EmployeeView.builder().firstName("Adarsh").lastName("Kumar").email("adarsh@gmail.com").build());
+        listOfEmployees.add(EmployeeView.builder().firstName("Anand").lastName("Kumar").email("anand@gmail.com").build());
 
-        given(employeeServiceMock.getAllEmployees()).willReturn(listOfEmployees);
+        given(employeeServiceMock.getEmployeeViews()).willReturn(listOfEmployees);
 
         // when
         ResultActions response = mockMvc.perform(get("/api/employees"));
@@ -84,6 +370,136 @@ public class EmployeeControllerTests {
                 .andExpect(jsonPath("$.size()", is(listOfEmployees.size())));
     }
 
+    // get all operation - selected fields only
+    @Test
+    @DisplayName("getAllEmployees - fields")
+    public void givenFields_whenGetAllEmployees_thenOnlySelectedFields() throws Exception {
+        // given
+        given(employeeServiceMock.getEmployeeFields(Set.of("id", "email")))
+                .willReturn(List.of(Map.of("id", 1, "email", "adarsh@gmail.com")));
+
+        // when
+        ResultActions response = mockMvc.perform(get("/api/employees").param("fields", "id,email"));
+
+        // then
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$[0].email", is("adarsh@gmail.com")))
+                .andExpect(jsonPath("$[0].firstName").doesNotExist());
+    }
+
+    // search operation - keyset paged
+    @Test
+    @DisplayName("searchEmployees")
+    public void givenNamesAndFields_whenSearchEmployees_thenPageWithNextCursor() throws Exception {
+        // given
+        given(employeeServiceMock.searchEmployees(null, "Kumar", Set.of("email"), 10L, 1))
+                .willReturn(new EmployeeFieldsPage(List.of(Map.of("email", "adarsh@gmail.com")), 11L));
+
+        // when
+        ResultActions response = mockMvc.perform(get("/api/employees/search")
+                .param("lastName", "Kumar")
+                .param("fields", "email")
+                .param("after", "10")
+                .param("limit", "1"));
+
+        // then
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$.employees.size()", is(1)))
+                .andExpect(jsonPath("$.employees[0].email", is("adarsh@gmail.com")))
+                .andExpect(jsonPath("$.nextCursor", is(11)));
+    }
+
+    // search operation - unknown field
+    @Test
+    @DisplayName("searchEmployees - bad request")
+    public void givenUnknownField_whenSearchEmployees_thenBadRequest() throws Exception {
+        // given
+        given(employeeServiceMock.searchEmployees("Adarsh", null, Set.of("salary"), 0, EmployeeService.DEFAULT_PAGE_SIZE))
+                .willThrow(new InvalidRequestException("Unknown employee field: salary"));
+
+        // when
+        ResultActions response = mockMvc.perform(get("/api/employees/search")
+                .param("firstName", "Adarsh")
+                .param("fields", "salary"));
+
+        // then
+        response.andExpect(status().isBadRequest())
+                .andDo(print());
+    }
+
+    // type-ahead search operation
+    @Test
+    @DisplayName("suggestEmployees")
+    public void givenQuery_whenSuggestEmployees_thenMatchingEmployees() throws Exception {
+        // given
+        given(employeeServiceMock.suggestEmployees("ada", EmployeeService.DEFAULT_SUGGESTIONS)).willReturn(List.of(
+                EmployeeView.builder().id(1L).firstName("Adarsh").lastName("Kumar").email("adarsh@gmail.com").build()));
+
+        // when
+        ResultActions response = mockMvc.perform(get("/api/employees/suggest").param("q", "ada"));
+
+        // then
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$.size()", is(1)))
+                .andExpect(jsonPath("$[0].firstName", is("Adarsh")));
+    }
+
+    // keyset pagination operation
+    @Test
+    @DisplayName("getEmployeesPage")
+    public void givenCursorAndLimit_whenGetEmployeesPage_thenEmployeesPage() throws Exception {
+        // given
+        List<Employee> listOfEmployees = List.of(
+                Employee.builder().id(11L).firstName("Adarsh").lastName("Kumar").email("adarsh@gmail.com").build(),
+                Employee.builder().id(12L).firstName("Anand").lastName("Kumar").email("anand@gmail.com").build());
+
+        given(employeeServiceMock.getEmployeesPage(10L, 2)).willReturn(new EmployeePage(listOfEmployees, 12L));
+
+        // when
+        ResultActions response = mockMvc.perform(get("/api/employees/page")
+                .param("after", "10")
+                .param("limit", "2"));
+
+        // then
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$.employees.size()", is(listOfEmployees.size())))
+                .andExpect(jsonPath("$.nextCursor", is(12)))
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"2-12-0-next\""));
+    }
+
+    // streaming export operation
+    @Test
+    @DisplayName("exportEmployees")
+    public void givenEmployees_whenExportEmployees_thenNewlineDelimitedJson() throws Exception {
+        // given
+        Employee employee = Employee.builder().id(1L).firstName("Adarsh").lastName("Kumar").email("adarsh@gmail.com").build();
+        Employee employee1 = Employee.builder().id(2L).firstName("Anand").lastName("Kumar").email("anand@gmail.com").build();
+
+        willAnswer(invocation -> {
+            Consumer<Employee> consumer = invocation.getArgument(0);
+            consumer.accept(employee);
+            consumer.accept(employee1);
+            return null;
+        }).given(employeeServiceMock).exportEmployees(any());
+
+        // when
+        MvcResult asyncResult = mockMvc.perform(get("/api/employees/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        ResultActions response = mockMvc.perform(asyncDispatch(asyncResult));
+
+        // then
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(objectMapper.writeValueAsString(employee) + "\n"
+                        + objectMapper.writeValueAsString(employee1) + "\n"));
+    }
+
     // get by id operation
     @Test
     @DisplayName("getEmployeeById")
@@ -109,6 +525,103 @@ public class EmployeeControllerTests {
                 .andExpect(jsonPath("$.email", is(employee.getEmail())));
     }
 
+    // get by id operation - ETag and Last-Modified
+    @Test
+    @DisplayName("getEmployeeById - validators")
+    public void givenEmployeeId_whenGetEmployeeById_thenETagAndLastModified() throws Exception {
+        // given
+        long employeeId = 1L;
+        Employee employee = Employee.builder()
+                .id(employeeId)
+                .firstName("Adarsh")
+                .lastName("Kumar")
+                .email("adarsh@gmail.com")
+                .version(3)
+                .updatedAt(Instant.parse("2024-01-01T10:00:00Z"))
+                .build();
+
+        given(employeeServiceMock.getEmployeeById(employeeId)).willReturn(Optional.of(employee));
+
+        // when
+        ResultActions response = mockMvc.perform(get("/api/employees/{id}", employeeId));
+
+        // then
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
+                .andExpect(header().string(HttpHeaders.LAST_MODIFIED, "Mon, 01 Jan 2024 10:00:00 GMT"));
+    }
+
+    // get by id operation - each format has its own strong ETag
+    @Test
+    @DisplayName("getEmployeeById - validators per format")
+    public void givenCborAccepted_whenGetEmployeeById_thenFormatSpecificETag() throws Exception {
+        // given
+        long employeeId = 1L;
+        Employee employee = Employee.builder().id(employeeId).firstName("Adarsh").lastName("Kumar").email("adarsh@gmail.com").version(3).build();
+
+        given(employeeServiceMock.getEmployeeById(employeeId)).willReturn(Optional.of(employee));
+        given(employeeServiceMock.getEmployeeVersion(employeeId)).willReturn(Optional.of(new EmployeeVersion(3, null)));
+
+        // when
+        ResultActions response = mockMvc.perform(get("/api/employees/{id}", employeeId).accept(MediaType.APPLICATION_CBOR));
+        ResultActions revalidated = mockMvc.perform(get("/api/employees/{id}", employeeId)
+                .accept(MediaType.APPLICATION_CBOR)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"3\""));
+
+        // then
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3-cbor\""));
+        // the JSON tag doesn't validate the CBOR representation
+        revalidated.andExpect(status().isOk());
+    }
+
+    // get by id operation - not modified
+    @Test
+    @DisplayName("getEmployeeById - not modified")
+    public void givenMatchingETag_whenGetEmployeeById_thenNotModifiedWithoutReadingEmployee() throws Exception {
+        // given
+        long employeeId = 1L;
+        given(employeeServiceMock.getEmployeeVersion(employeeId))
+                .willReturn(Optional.of(new EmployeeVersion(3, Instant.parse("2024-01-01T10:00:00Z"))));
+
+        // when
+        ResultActions response = mockMvc.perform(get("/api/employees/{id}", employeeId)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"3\""));
+
+        // then
+        response.andExpect(status().isNotModified())
+                .andDo(print())
+                .andExpect(content().string(""));
+        verify(employeeServiceMock, never()).getEmployeeById(employeeId);
+    }
+
+    // keyset pagination operation - not modified
+    @Test
+    @DisplayName("getEmployeesPage - not modified")
+    public void givenMatchingETag_whenGetEmployeesPage_thenNotModifiedWithoutReadingPage() throws Exception {
+        // given
+        EmployeeRangeVersion rangeVersion = mock(EmployeeRangeVersion.class);
+        given(rangeVersion.getCount()).willReturn(2L);
+        given(rangeVersion.getMaxId()).willReturn(12L);
+        given(rangeVersion.getVersionSum()).willReturn(5L);
+        given(rangeVersion.isHasNext()).willReturn(true);
+        given(employeeServiceMock.getEmployeesPageVersion(10L, 2)).willReturn(rangeVersion);
+
+        // when
+        ResultActions response = mockMvc.perform(get("/api/employees/page")
+                .param("after", "10")
+                .param("limit", "2")
+                .header(HttpHeaders.IF_NONE_MATCH, "W/\"2-12-5-next\""));
+
+        // then
+        response.andExpect(status().isNotModified())
+                .andDo(print());
+        verify(employeeServiceMock, never()).getEmployeesPage(10L, 2);
+    }
+
     // get by id operation - return empty
     @Test
     @DisplayName("getEmployeeById")
@@ -154,6 +667,56 @@ public class EmployeeControllerTests {
                 .andExpect(jsonPath("$.email", is(updatedEmployee.getEmail())));
     }
 
+    // partial update operation
+    @Test
+    @DisplayName("patchEmployee")
+    public void givenEmployeePatch_whenPatchEmployee_thenPatchedEmployee() throws Exception {
+        // given
+        long employeeId = 1L;
+        EmployeePatch patch = EmployeePatch.builder().lastName("K").version(0L).build();
+        Employee patchedEmployee = Employee.builder()
+                .id(employeeId)
+                .firstName("Anand")
+                .lastName("K")
+                .email("anand@gmail.com")
+                .version(1)
+                .build();
+
+        given(employeeServiceMock.patchEmployee(eq(employeeId), any(EmployeePatch.class))).willReturn(patchedEmployee);
+
+        // when
+        ResultActions response = mockMvc.perform(patch("/api/employees/{id}", employeeId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(patch)));
+
+        // then
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$.lastName", is("K")))
+                .andExpect(jsonPath("$.version", is(1)));
+    }
+
+    // partial update operation - version conflict
+    @Test
+    @DisplayName("patchEmployee - conflict")
+    public void givenOutdatedVersion_whenPatchEmployee_thenConflict() throws Exception {
+        // given
+        long employeeId = 1L;
+        EmployeePatch patch = EmployeePatch.builder().lastName("K").version(0L).build();
+
+        given(employeeServiceMock.patchEmployee(eq(employeeId), any(EmployeePatch.class)))
+                .willThrow(new ObjectOptimisticLockingFailureException(Employee.class, employeeId));
+
+        // when
+        ResultActions response = mockMvc.perform(patch("/api/employees/{id}", employeeId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(patch)));
+
+        // then
+        response.andExpect(status().isConflict())
+                .andDo(print());
+    }
+
     // delete operation
     @Test
     @DisplayName("deleteEmployee")
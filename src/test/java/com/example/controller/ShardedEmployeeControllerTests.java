@@ -0,0 +1,77 @@
+package com.example.controller;
+
+import com.example.exception.ResourceAlreadyExistsException;
+import com.example.model.Employee;
+import com.example.model.EmployeePage;
+import com.example.service.ShardedEmployeeService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(ShardedEmployeeController.class)
+@ActiveProfiles("sharded")
+public class ShardedEmployeeControllerTests {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private ShardedEmployeeService shardedEmployeeServiceMock;
+
+    // save operation - email taken on another shard
+    @Test
+    @DisplayName("createEmployee - duplicate email")
+    public void givenExistingEmail_whenCreateEmployee_thenConflict() throws Exception {
+        // given
+        Employee employee = Employee.builder().firstName("Adarsh").lastName("Kumar").email("adarsh@gmail.com").build();
+        given(shardedEmployeeServiceMock.saveEmployee(any(Employee.class)))
+                .willThrow(new ResourceAlreadyExistsException("Employee already exist with given email:adarsh@gmail.com"));
+
+        // when
+        ResultActions response = mockMvc.perform(post("/api/sharded/employees")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(employee)));
+
+        // then
+        response.andExpect(status().isConflict())
+                .andDo(print());
+    }
+
+    // page merged across the shards
+    @Test
+    @DisplayName("getEmployeesPage")
+    public void givenEmployees_whenGetEmployeesPage_thenPageWithCursor() throws Exception {
+        // given
+        Employee employee = Employee.builder().id(1L << 40).firstName("Adarsh").lastName("Kumar").email("adarsh@gmail.com").build();
+        given(shardedEmployeeServiceMock.getEmployeesPage(0, 1)).willReturn(new EmployeePage(List.of(employee), employee.getId()));
+
+        // when
+        ResultActions response = mockMvc.perform(get("/api/sharded/employees/page").param("limit", "1"));
+
+        // then
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$.employees.size()", is(1)))
+                .andExpect(jsonPath("$.nextCursor", is(employee.getId())));
+    }
+}
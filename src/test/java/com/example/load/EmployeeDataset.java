@@ -0,0 +1,61 @@
+package com.example.load;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Reproducible employee dataset: the same {@code seed} always generates the same rows.
+ * <p>
+ * Rows are written with batched JDBC inserts, bypassing JPA, so millions of them load in seconds. They get the ids
+ * {@code 1..rows}; the id sequence is moved past them so later creates through the API don't collide.
+ */
+final class EmployeeDataset {
+    private static final int INSERT_BATCH_SIZE = 1000;
+
+    // must be at least the allocationSize of the employees_seq generator
+    private static final int SEQUENCE_GAP = 50;
+
+    private static final String[] FIRST_NAMES = {
+            "Adarsh", "Aarav", "Ananya", "Arjun", "Diya", "Ishaan", "Kavya", "Meera", "Neha", "Nikhil",
+            "Priya", "Rahul", "Riya", "Rohan", "Saanvi", "Sahil", "Sneha", "Tanvi", "Varun", "Vikram"};
+
+    private static final String[] LAST_NAMES = {
+            "Agarwal", "Bose", "Chopra", "Das", "Gupta", "Iyer", "Jain", "Kapoor", "Khan", "Kumar",
+            "Mehta", "Menon", "Nair", "Patel", "Rao", "Reddy", "Shah", "Sharma", "Singh", "Verma"};
+
+    private EmployeeDataset() {
+    }
+
+    static void seed(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate, int rows, long seed) {
+        Random random = new Random(seed);
+        Timestamp updatedAt = Timestamp.from(Instant.now().truncatedTo(ChronoUnit.MICROS));
+        List<Object[]> batch = new ArrayList<>(INSERT_BATCH_SIZE);
+        for (long id = 1; id <= rows; id++) {
+            String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+            String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            // the id keeps the email unique however the names repeat
+            String email = (firstName + "." + lastName + "." + id + "@example.com").toLowerCase(Locale.ROOT);
+            batch.add(new Object[]{id, firstName, lastName, email, updatedAt});
+            if (batch.size() == INSERT_BATCH_SIZE || id == rows) {
+                insert(jdbcTemplate, transactionTemplate, batch);
+                batch.clear();
+            }
+        }
+        jdbcTemplate.execute("alter sequence employees_seq restart with " + (rows + SEQUENCE_GAP + 1));
+    }
+
+    // one transaction per batch: the prod profile's pool has auto-commit off
+    private static void insert(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate, List<Object[]> batch) {
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(
+                "insert into employees (id, first_name, last_name, email, version, updated_at) values (?, ?, ?, ?, 0, ?)",
+                batch));
+    }
+}
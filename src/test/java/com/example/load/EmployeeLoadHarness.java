@@ -0,0 +1,191 @@
+package com.example.load;
+
+import com.example.JavaSpringBootTestingApplication;
+import com.example.service.EmployeeMembershipFilter;
+import com.example.service.EmployeeSearchIndex;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Mixed create/read/update/delete/list traffic against {@code /api/employees} at a fixed request rate.
+ * <p>
+ * The application is started in-process on a random port with a private in-memory H2 database, which is seeded
+ * with a reproducible {@link EmployeeDataset} first. Reads, updates and list pages hit the seeded rows; deletes only
+ * remove employees created during the run, so the dataset stays the same size.
+ * <p>
+ * Options, as {@code name=value} (a leading {@code --} is allowed):
+ * <ul>
+ *     <li>{@code rows}: seeded employees, default 1000000</li>
+ *     <li>{@code seed}: dataset seed, default 42</li>
+ *     <li>{@code rate}: requests per second, default 500</li>
+ *     <li>{@code duration} / {@code warmup}: e.g. {@code 60s}, {@code 2m}; defaults 60s and 10s</li>
+ *     <li>{@code mix}: operation weights, default {@code read=60,list=10,create=10,update=15,delete=5}</li>
+ *     <li>{@code profiles}: Spring profiles to run the application with, e.g. {@code prod}</li>
+ * </ul>
+ */
+public class EmployeeLoadHarness {
+    private static final String DEFAULT_MIX = "read=60,list=10,create=10,update=15,delete=5";
+
+    private static final int PAGE_SIZE = 50;
+
+    private final int port;
+
+    private final int rows;
+
+    private final ObjectMapper objectMapper;
+
+    private final Map<String, Integer> mix;
+
+    private final int totalWeight;
+
+    private final String runId = UUID.randomUUID().toString().substring(0, 8);
+
+    private final AtomicLong createCount = new AtomicLong();
+
+    // ids created during the run, the only ones deletes may remove
+    private final Queue<Long> createdIds = new ConcurrentLinkedQueue<>();
+
+    private EmployeeLoadHarness(int port, int rows, ObjectMapper objectMapper, Map<String, Integer> mix) {
+        this.port = port;
+        this.rows = rows;
+        this.objectMapper = objectMapper;
+        this.mix = mix;
+        this.totalWeight = mix.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = options(args);
+        int rows = Integer.parseInt(options.getOrDefault("rows", "1000000"));
+        long seed = Long.parseLong(options.getOrDefault("seed", "42"));
+        double rate = Double.parseDouble(options.getOrDefault("rate", "500"));
+        Duration duration = duration(options.getOrDefault("duration", "60s"));
+        Duration warmup = duration(options.getOrDefault("warmup", "10s"));
+        Map<String, Integer> mix = mix(options.getOrDefault("mix", DEFAULT_MIX));
+        String[] profiles = options.getOrDefault("profiles", "").isBlank() ? new String[0] : options.get("profiles").split(",");
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(JavaSpringBootTestingApplication.class)
+                .profiles(profiles)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:load-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=WARN")
+                .run()) {
+            long seeding = System.nanoTime();
+            EmployeeDataset.seed(context.getBean(JdbcTemplate.class), context.getBean(TransactionTemplate.class), rows, seed);
+            // the rows were inserted behind the application's back; the type-ahead index and the membership
+            // filters only learn of them here
+            context.getBean(EmployeeSearchIndex.class).rebuild();
+            context.getBean(EmployeeMembershipFilter.class).rebuild();
+            System.out.printf("seeded %d employees in %d ms%n", rows, Duration.ofNanos(System.nanoTime() - seeding).toMillis());
+
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            EmployeeLoadHarness harness = new EmployeeLoadHarness(port, rows, context.getBean(ObjectMapper.class), mix);
+
+            LoadDriver.runAtRate("warmup", rate, warmup, harness::nextCall);
+            List<LoadDriver.Result> results = LoadDriver.runAtRate("mixed", rate, duration, harness::nextCall);
+
+            System.out.printf("%n%d employees, %.0f req/s target, %s, %ds%n", rows, rate, mix, duration.toSeconds());
+            results.forEach(System.out::println);
+        }
+    }
+
+    private LoadDriver.Call nextCall() {
+        int pick = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Map.Entry<String, Integer> entry : mix.entrySet()) {
+            pick -= entry.getValue();
+            if (pick < 0) {
+                return call(entry.getKey());
+            }
+        }
+        throw new IllegalStateException("Empty operation mix");
+    }
+
+    private LoadDriver.Call call(String operation) {
+        return switch (operation) {
+            case "read" -> new LoadDriver.Call(operation, request("/" + randomId()).GET().build());
+            case "list" -> new LoadDriver.Call(operation,
+                    request("/page?after=" + (randomId() - 1) + "&limit=" + PAGE_SIZE).GET().build());
+            case "update" -> new LoadDriver.Call(operation, request("/" + randomId())
+                    .method("PATCH", json("{\"lastName\":\"Updated" + ThreadLocalRandom.current().nextInt(1000) + "\"}"))
+                    .build());
+            case "delete" -> {
+                Long id = createdIds.poll();
+                // nothing created yet that could be deleted
+                yield id == null ? call("create") : new LoadDriver.Call(operation, request("/" + id).DELETE().build());
+            }
+            case "create" -> {
+                long n = createCount.incrementAndGet();
+                String body = "{\"firstName\":\"Load\",\"lastName\":\"Test" + n + "\",\"email\":\"load-" + runId + "-" + n + "@example.com\"}";
+                yield new LoadDriver.Call(operation, request("").POST(json(body)).build(),
+                        response -> createdIds.add(id(response)));
+            }
+            default -> throw new IllegalArgumentException("Unknown operation: " + operation);
+        };
+    }
+
+    private long randomId() {
+        return ThreadLocalRandom.current().nextLong(rows) + 1;
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/employees" + path))
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(30));
+    }
+
+    private static HttpRequest.BodyPublisher json(String body) {
+        return HttpRequest.BodyPublishers.ofString(body);
+    }
+
+    private long id(String response) {
+        try {
+            return objectMapper.readTree(response).get("id").asLong();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Map<String, String> options(String[] args) {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            String[] option = arg.replaceFirst("^--", "").split("=", 2);
+            options.put(option[0], option.length > 1 ? option[1] : "");
+        }
+        return options;
+    }
+
+    private static Map<String, Integer> mix(String mix) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String entry : mix.split(",")) {
+            String[] weight = entry.split("=", 2);
+            weights.put(weight[0].trim(), Integer.parseInt(weight[1].trim()));
+        }
+        return weights;
+    }
+
+    // "90s", "2m", or an ISO-8601 duration
+    private static Duration duration(String duration) {
+        if (duration.startsWith("P")) {
+            return Duration.parse(duration);
+        }
+        return Duration.parse("PT" + duration.toUpperCase());
+    }
+}
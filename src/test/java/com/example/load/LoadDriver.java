@@ -0,0 +1,185 @@
+package com.example.load;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+/**
+ * HTTP load on virtual threads, either closed-loop ({@link #run}) or at a fixed request rate ({@link #runAtRate}).
+ * Latencies go into an HDR histogram.
+ */
+public final class LoadDriver {
+
+    private LoadDriver() {
+    }
+
+    public record Result(String name, long requests, long errors, Duration elapsed, Histogram latency) {
+        public double throughput() {
+            return requests * 1_000_000_000d / elapsed.toNanos();
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-24s %10.0f req/s  p50 %8.2f ms  p90 %8.2f ms  p99 %8.2f ms  p99.9 %8.2f ms  max %8.2f ms  errors %d",
+                    name, throughput(),
+                    millis(latency.getValueAtPercentile(50)),
+                    millis(latency.getValueAtPercentile(90)),
+                    millis(latency.getValueAtPercentile(99)),
+                    millis(latency.getValueAtPercentile(99.9)),
+                    millis(latency.getMaxValue()),
+                    errors);
+        }
+
+        private static double millis(long nanos) {
+            return nanos / 1_000_000d;
+        }
+    }
+
+    /**
+     * A request of a named operation; {@code onSuccess} gets the body of a successful response.
+     */
+    public record Call(String operation, HttpRequest request, Consumer<String> onSuccess) {
+        public Call(String operation, HttpRequest request) {
+            this(operation, request, body -> {
+            });
+        }
+    }
+
+    /**
+     * Closed loop: {@code clients} virtual threads each send one request, wait for the response
+     * and immediately send the next, until the duration is up.
+     *
+     * @param requests builds the next request for the given client number
+     */
+    public static Result run(String name, int clients, Duration duration, IntFunction<HttpRequest> requests) throws InterruptedException {
+        HttpClient httpClient = newHttpClient();
+        Recorder recorder = newRecorder();
+        AtomicLong requestCount = new AtomicLong();
+        AtomicLong errorCount = new AtomicLong();
+
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < clients; c++) {
+                int client = c;
+                executor.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        long sent = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = httpClient.send(requests.apply(client), HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() >= 400) {
+                                errorCount.incrementAndGet();
+                            }
+                        } catch (IOException e) {
+                            errorCount.incrementAndGet();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                        recorder.recordValue(Math.min(System.nanoTime() - sent, TimeUnit.MINUTES.toNanos(1)));
+                        requestCount.incrementAndGet();
+                    }
+                });
+            }
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        return new Result(name, requestCount.get(), errorCount.get(), elapsed, recorder.getIntervalHistogram());
+    }
+
+    /**
+     * Open loop: a request is started every {@code 1/rate} seconds whatever the response times, each on its own
+     * virtual thread. Latency is measured from when a request was due, not when it was sent, so a stalled server
+     * shows up in the percentiles instead of silently lowering the request rate (coordinated omission).
+     *
+     * @param calls builds the next call; its operation name groups the results
+     * @return one result per operation, in name order, followed by the total
+     */
+    public static List<Result> runAtRate(String name, double rate, Duration duration, Supplier<Call> calls) throws InterruptedException {
+        HttpClient httpClient = newHttpClient();
+        Map<String, Tally> tallies = new ConcurrentSkipListMap<>();
+        Tally total = new Tally();
+
+        long interval = (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long due = start; due < deadline; due += interval) {
+                LockSupport.parkNanos(due - System.nanoTime());
+                long scheduled = due;
+                Call call = calls.get();
+                Tally tally = tallies.computeIfAbsent(call.operation(), operation -> new Tally());
+                executor.submit(() -> {
+                    boolean success = false;
+                    try {
+                        HttpResponse<String> response = httpClient.send(call.request(), HttpResponse.BodyHandlers.ofString());
+                        success = response.statusCode() < 400;
+                        if (success) {
+                            call.onSuccess().accept(response.body());
+                        }
+                    } catch (IOException e) {
+                        // counted as an error below
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    long latency = System.nanoTime() - scheduled;
+                    tally.record(latency, success);
+                    total.record(latency, success);
+                });
+            }
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        List<Result> results = new ArrayList<>();
+        tallies.forEach((operation, tally) -> results.add(tally.result(name + " " + operation, elapsed)));
+        results.add(total.result(name + " total", elapsed));
+        return results;
+    }
+
+    private static HttpClient newHttpClient() {
+        return HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+    }
+
+    private static Recorder newRecorder() {
+        return new Recorder(TimeUnit.MINUTES.toNanos(1), 3);
+    }
+
+    private static final class Tally {
+        private final Recorder recorder = newRecorder();
+        private final AtomicLong requests = new AtomicLong();
+        private final AtomicLong errors = new AtomicLong();
+
+        void record(long latency, boolean success) {
+            recorder.recordValue(Math.min(latency, TimeUnit.MINUTES.toNanos(1)));
+            requests.incrementAndGet();
+            if (!success) {
+                errors.incrementAndGet();
+            }
+        }
+
+        Result result(String name, Duration elapsed) {
+            return new Result(name, requests.get(), errors.get(), elapsed, recorder.getIntervalHistogram());
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.load;
+
+import com.example.JavaSpringBootTestingApplication;
+import com.example.model.Employee;
+import com.example.service.EmployeeService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * GET /api/employees/{id} under many concurrent clients, once on Tomcat's platform-thread pool and once with
+ * the {@code virtual-threads} profile. The employee cache is disabled so every request blocks on a JPA query.
+ * <p>
+ * Arguments: [clients, default 2000] [seconds per run, default 20]
+ */
+public class VirtualThreadLoadComparison {
+    private static final int DATASET_SIZE = 10_000;
+
+    public static void main(String[] args) throws Exception {
+        int clients = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        Duration duration = Duration.ofSeconds(args.length > 1 ? Long.parseLong(args[1]) : 20);
+
+        List<LoadDriver.Result> results = List.of(
+                run("platform threads", clients, duration),
+                run("virtual threads", clients, duration, "virtual-threads"));
+
+        System.out.printf("%nGET /api/employees/{id}, %d clients, %ds%n", clients, duration.toSeconds());
+        results.forEach(System.out::println);
+    }
+
+    private static LoadDriver.Result run(String name, int clients, Duration duration, String... profiles) throws InterruptedException {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(JavaSpringBootTestingApplication.class)
+                .profiles(profiles)
+                .properties(
+                        "server.port=0",
+                        "spring.cache.type=none",
+                        "spring.datasource.url=jdbc:h2:mem:load-" + UUID.randomUUID(),
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=WARN")
+                .run()) {
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            long[] ids = seed(context.getBean(EmployeeService.class));
+
+            LoadDriver.run(name + " (warmup)", clients, duration.dividedBy(4), client -> getEmployee(port, ids));
+            return LoadDriver.run(name, clients, duration, client -> getEmployee(port, ids));
+        }
+    }
+
+    private static HttpRequest getEmployee(int port, long[] ids) {
+        long id = ids[ThreadLocalRandom.current().nextInt(ids.length)];
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/employees/" + id)).build();
+    }
+
+    private static long[] seed(EmployeeService employeeService) {
+        List<Employee> employees = new ArrayList<>(DATASET_SIZE);
+        for (int n = 0; n < DATASET_SIZE; n++) {
+            employees.add(Employee.builder().firstName("First" + n).lastName("Last" + n).email("employee" + n + "@example.com").build());
+        }
+        return employeeService.saveEmployees(employees).stream()
+                .mapToLong(result -> result.getEmployee().getId())
+                .toArray();
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.repository;
+
+import com.example.model.Employee;
+import com.example.model.EmployeeChange;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+public class EmployeeChangeRepositoryTests {
+
+    @Autowired
+    private EmployeeChangeRepository employeeChangeRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    // counter row created by import.sql
+    @Test
+    @DisplayName("lockLastSeq / updateLastSeq")
+    public void givenCounter_whenUpdateLastSeq_thenLockedValueAdvanced() {
+        // given
+        long lastSeq = employeeChangeRepository.lockLastSeq();
+
+        // when
+        employeeChangeRepository.updateLastSeq(lastSeq + 5);
+
+        // then
+        assertThat(employeeChangeRepository.lockLastSeq()).isEqualTo(lastSeq + 5);
+    }
+
+    // set-based append, numbered in id order, skipping ids without a row
+    @Test
+    @DisplayName("insertUpserts")
+    public void givenEmployees_whenInsertUpserts_thenOneNumberedChangePerExistingEmployee() {
+        // given
+        Employee adarsh = employeeRepository.save(Employee.builder().firstName("Adarsh").lastName("Kumar").email("adarsh@gmail.com").build());
+        Employee anand = employeeRepository.save(Employee.builder().firstName("Anand").lastName("Kumar").email("anand@gmail.com").build());
+
+        // when
+        int inserted = employeeChangeRepository.insertUpserts(10, List.of(anand.getId(), adarsh.getId(), Long.MAX_VALUE), Instant.now());
+        List<EmployeeChange> changes = employeeChangeRepository.findBySeqGreaterThanOrderBySeqAsc(10, PageRequest.ofSize(10));
+
+        // then
+        assertThat(inserted).isEqualTo(2);
+        assertThat(changes).extracting(EmployeeChange::getSeq).containsExactly(11L, 12L);
+        assertThat(changes).extracting(EmployeeChange::getEmployeeId).containsExactly(adarsh.getId(), anand.getId());
+        assertThat(changes).allSatisfy(change -> assertThat(change.getType()).isEqualTo(EmployeeChange.Type.UPSERT));
+        assertThat(changes.get(0).getEmail()).isEqualTo(adarsh.getEmail());
+    }
+
+    // feed page
+    @Test
+    @DisplayName("findBySeqGreaterThanOrderBySeqAsc")
+    public void givenChanges_whenFindBySeqGreaterThan_thenNextChangesInOrder() {
+        // given
+        for (long seq = 1; seq <= 5; seq++) {
+            employeeChangeRepository.save(EmployeeChange.builder().seq(seq).employeeId(seq)
+                    .type(EmployeeChange.Type.DELETE).changedAt(Instant.now()).build());
+        }
+
+        // when
+        List<EmployeeChange> changes = employeeChangeRepository.findBySeqGreaterThanOrderBySeqAsc(2, PageRequest.ofSize(2));
+
+        // then
+        assertThat(changes).extracting(EmployeeChange::getSeq).containsExactly(3L, 4L);
+    }
+}
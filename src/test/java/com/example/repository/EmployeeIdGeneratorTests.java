@@ -0,0 +1,39 @@
+package com.example.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class EmployeeIdGeneratorTests {
+
+    // more ids than fit in one millisecond's sequence, all distinct and increasing
+    @Test
+    @DisplayName("nextId")
+    public void givenGenerator_whenNextIdRepeatedly_thenUniqueAndIncreasing() {
+        // given
+        EmployeeIdGenerator underTest = new EmployeeIdGenerator(7);
+        Set<Long> ids = new HashSet<>();
+        long previous = 0;
+
+        // when / then
+        for (int i = 0; i < 20_000; i++) {
+            long id = underTest.nextId();
+            assertThat(id).isGreaterThan(previous);
+            ids.add(id);
+            previous = id;
+        }
+        assertThat(ids).hasSize(20_000);
+        assertThat((previous >> 12) & EmployeeIdGenerator.MAX_WORKER_ID).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("constructor - worker id out of range")
+    public void givenWorkerIdOutOfRange_whenCreated_thenIllegalArgumentException() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new EmployeeIdGenerator(EmployeeIdGenerator.MAX_WORKER_ID + 1));
+    }
+}
@@ -1,16 +1,27 @@
 package com.example.repository;
 
 import com.example.model.Employee;
+import com.example.model.EmployeeRangeVersion;
+import com.example.model.EmployeeVersion;
+import com.example.model.EmployeeView;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @DataJpaTest
 public class EmployeeRepositoryTests {
@@ -43,6 +54,26 @@ public class EmployeeRepositoryTests {
         assertThat(savedEmployee.getId()).isGreaterThan(0);
     }
 
+    // save operation - unique email constraint
+    @Test
+    @DisplayName("saveAndFlush - duplicate email")
+    public void givenDuplicateEmail_whenSaveAndFlush_thenThrowsDataIntegrityViolationException() {
+        // given
+        Employee duplicate = Employee.builder()
+                .firstName("Anand")
+                .lastName("Kumar")
+                .email(employee.getEmail())
+                .build();
+        employeeRepository.saveAndFlush(employee);
+
+        // when
+        assertThatExceptionOfType(DataIntegrityViolationException.class)
+                .isThrownBy(() -> employeeRepository.saveAndFlush(duplicate))
+                .havingCause()
+                .isInstanceOfSatisfying(ConstraintViolationException.class, violation ->
+                        assertThat(violation.getConstraintName()).containsIgnoringCase(Employee.EMAIL_UNIQUE_CONSTRAINT));
+    }
+
     // get all operation
     @Test
     @DisplayName("findAll")
@@ -65,6 +96,82 @@ public class EmployeeRepositoryTests {
         assertThat(employeesList.size()).isEqualTo(2);
     }
 
+    // projection operation
+    @Test
+    @DisplayName("findAllViews")
+    public void givenEmployeeList_whenFindAllViews_thenViewsInIdOrder() {
+        // given
+        Employee employee1 = Employee.builder().firstName("Anand").lastName("Kumar").email("anand@gmail.com").build();
+
+        employeeRepository.save(employee);
+        employeeRepository.save(employee1);
+
+        // when
+        List<EmployeeView> employeeViews = employeeRepository.findAllViews();
+
+        // then
+        assertThat(employeeViews).extracting(EmployeeView::getEmail).containsExactly("adarsh@gmail.com", "anand@gmail.com");
+    }
+
+    // field selection operation
+    @Test
+    @DisplayName("findFields")
+    public void givenEmployeeList_whenFindFields_thenOnlySelectedFieldsOfMatchingEmployees() {
+        // given
+        Employee employee1 = Employee.builder().firstName("Anand").lastName("Kumar").email("anand@gmail.com").build();
+
+        employeeRepository.save(employee);
+        employeeRepository.save(employee1);
+
+        // when
+        List<Map<String, Object>> rows = employeeRepository.findFields(List.of("email", "firstName"), "Anand", "Kumar", 0, 10);
+
+        // then
+        assertThat(rows).containsExactly(Map.of("email", "anand@gmail.com", "firstName", "Anand"));
+        assertThat(rows.get(0).keySet()).containsExactly("email", "firstName");
+    }
+
+    // keyset pagination operation
+    @Test
+    @DisplayName("findByIdGreaterThanOrderByIdAsc")
+    public void givenEmployeeList_whenFindByIdGreaterThan_thenNextEmployeesInIdOrder() {
+        // given
+        Employee employee1 = Employee.builder().firstName("Anand").lastName("Kumar").email("anand@gmail.com").build();
+        Employee employee2 = Employee.builder().firstName("Amit").lastName("Kumar").email("amit@gmail.com").build();
+
+        employeeRepository.save(employee);
+        employeeRepository.save(employee1);
+        employeeRepository.save(employee2);
+
+        // when
+        List<Employee> firstPage = employeeRepository.findByIdGreaterThanOrderByIdAsc(0, PageRequest.ofSize(2));
+        List<Employee> secondPage = employeeRepository.findByIdGreaterThanOrderByIdAsc(firstPage.get(1).getId(), PageRequest.ofSize(2));
+
+        // then
+        assertThat(firstPage).extracting(Employee::getEmail).containsExactly("adarsh@gmail.com", "anand@gmail.com");
+        assertThat(secondPage).extracting(Employee::getEmail).containsExactly("amit@gmail.com");
+    }
+
+    // streaming operation
+    @Test
+    @DisplayName("streamAll")
+    public void givenEmployeeList_whenStreamAll_thenEmployeesInIdOrder() {
+        // given
+        Employee employee1 = Employee.builder().firstName("Anand").lastName("Kumar").email("anand@gmail.com").build();
+
+        employeeRepository.save(employee);
+        employeeRepository.save(employee1);
+
+        // when
+        List<String> emails;
+        try (Stream<Employee> employees = employeeRepository.streamAll()) {
+            emails = employees.map(Employee::getEmail).toList();
+        }
+
+        // then
+        assertThat(emails).containsExactly("adarsh@gmail.com", "anand@gmail.com");
+    }
+
     // get by id operation
     @Test
     @DisplayName("findById")
@@ -93,6 +200,106 @@ public class EmployeeRepositoryTests {
         assertThat(employeeDB).isNotNull();
     }
 
+    // custom query with IN list
+    @Test
+    @DisplayName("findExistingEmails")
+    public void givenEmailList_whenFindExistingEmails_thenOnlySavedEmails() {
+        // given
+        employeeRepository.save(employee);
+
+        // when
+        Set<String> existingEmails = employeeRepository.findExistingEmails(List.of("adarsh@gmail.com", "anand@gmail.com"));
+
+        // then
+        assertThat(existingEmails).containsExactly("adarsh@gmail.com");
+    }
+
+    // version-only read operation
+    @Test
+    @DisplayName("findVersionById")
+    public void givenSavedEmployee_whenFindVersionById_thenVersionAndUpdatedAt() {
+        // given
+        employeeRepository.saveAndFlush(employee);
+
+        // when
+        Optional<EmployeeVersion> version = employeeRepository.findVersionById(employee.getId());
+
+        // then
+        assertThat(version).hasValueSatisfying(value -> {
+            assertThat(value.getVersion()).isZero();
+            assertThat(value.getUpdatedAt()).isNotNull();
+        });
+    }
+
+    // range aggregate operation
+    @Test
+    @DisplayName("findRangeVersion")
+    public void givenEmployeeList_whenFindRangeVersion_thenAggregateOfPageRows() {
+        // given
+        Employee employee1 = Employee.builder().firstName("Anand").lastName("Kumar").email("anand@gmail.com").build();
+        Employee employee2 = Employee.builder().firstName("Amit").lastName("Kumar").email("amit@gmail.com").build();
+
+        employeeRepository.saveAllAndFlush(List.of(employee, employee1, employee2));
+
+        // when
+        EmployeeRangeVersion firstPage = employeeRepository.findRangeVersion(0, 2);
+        EmployeeRangeVersion afterLast = employeeRepository.findRangeVersion(employee2.getId(), 2);
+
+        // then
+        assertThat(firstPage.getCount()).isEqualTo(2);
+        assertThat(firstPage.getMaxId()).isEqualTo(employee1.getId());
+        assertThat(firstPage.getVersionSum()).isZero();
+        assertThat(firstPage.isHasNext()).isTrue();
+        assertThat(afterLast.getCount()).isZero();
+        assertThat(afterLast.getMaxId()).isZero();
+        assertThat(afterLast.isHasNext()).isFalse();
+    }
+
+    // range aggregate operation - a full last page gains a next page
+    @Test
+    @DisplayName("findRangeVersion - insert after a full last page")
+    public void givenFullLastPage_whenEmployeeInsertedAfterIt_thenRangeVersionChanges() {
+        // given
+        Employee employee1 = Employee.builder().firstName("Anand").lastName("Kumar").email("anand@gmail.com").build();
+        employeeRepository.saveAllAndFlush(List.of(employee, employee1));
+        EmployeeRangeVersion before = employeeRepository.findRangeVersion(employee.getId() - 1, 2);
+
+        // when
+        employeeRepository.saveAndFlush(Employee.builder().firstName("Amit").lastName("Kumar").email("amit@gmail.com").build());
+        EmployeeRangeVersion after = employeeRepository.findRangeVersion(employee.getId() - 1, 2);
+
+        // then
+        assertThat(before.isHasNext()).isFalse();
+        assertThat(after.isHasNext()).isTrue();
+        assertThat(after.getCount()).isEqualTo(before.getCount());
+        assertThat(after.getMaxId()).isEqualTo(before.getMaxId());
+        assertThat(after.getVersionSum()).isEqualTo(before.getVersionSum());
+    }
+
+    // partial update operation
+    @Test
+    @DisplayName("patch")
+    public void givenSavedEmployee_whenPatch_thenOnlyGivenFieldsAndVersionChanged() {
+        // given
+        employeeRepository.saveAndFlush(employee);
+
+        Instant updatedAt = employee.getUpdatedAt().plusSeconds(1);
+
+        // when
+        int staleUpdates = employeeRepository.patch(employee.getId(), null, "Anand", null, employee.getVersion() + 1, Instant.now());
+        int updates = employeeRepository.patch(employee.getId(), null, "Anand", null, employee.getVersion(), updatedAt);
+        Employee employeeDB = employeeRepository.findById(employee.getId()).get();
+
+        // then
+        assertThat(staleUpdates).isZero();
+        assertThat(updates).isEqualTo(1);
+        assertThat(employeeDB.getFirstName()).isEqualTo("Adarsh");
+        assertThat(employeeDB.getLastName()).isEqualTo("Anand");
+        assertThat(employeeDB.getEmail()).isEqualTo("adarsh@gmail.com");
+        assertThat(employeeDB.getVersion()).isEqualTo(1);
+        assertThat(employeeDB.getUpdatedAt()).isAfter(employee.getUpdatedAt());
+    }
+
     // delete operation
     @Test
     @DisplayName("deleteById")
@@ -108,6 +315,49 @@ public class EmployeeRepositoryTests {
         assertThat(employeeOptional).isEmpty();
     }
 
+    // bulk delete operation
+    @Test
+    @DisplayName("deleteByIds")
+    public void givenEmployeeList_whenDeleteByIds_thenOnlyGivenEmployeesDeleted() {
+        // given
+        Employee employee1 = Employee.builder().firstName("Anand").lastName("Kumar").email("anand@gmail.com").build();
+        Employee employee2 = Employee.builder().firstName("Amit").lastName("Kumar").email("amit@gmail.com").build();
+
+        employeeRepository.saveAll(List.of(employee, employee1, employee2));
+
+        // when
+        int deleted = employeeRepository.deleteByIds(List.of(employee.getId(), employee2.getId(), -1L));
+
+        // then
+        assertThat(deleted).isEqualTo(2);
+        assertThat(employeeRepository.findAll()).extracting(Employee::getEmail).containsExactly("anand@gmail.com");
+    }
+
+    // bulk update operation
+    @Test
+    @DisplayName("findIdsByName and updateNamesByIds")
+    public void givenEmployeeList_whenUpdateNamesByIds_thenMatchingEmployeesRenamed() {
+        // given
+        Employee employee1 = Employee.builder().firstName("Anand").lastName("Kumar").email("anand@gmail.com").build();
+        Employee employee2 = Employee.builder().firstName("Amit").lastName("Singh").email("amit@gmail.com").build();
+
+        employeeRepository.saveAll(List.of(employee, employee1, employee2));
+
+        // when
+        List<Long> ids = employeeRepository.findIdsByName(null, "Kumar");
+        int updated = employeeRepository.updateNamesByIds(ids, null, "Verma", Instant.now());
+
+        // then
+        assertThat(ids).containsExactly(employee.getId(), employee1.getId());
+        assertThat(updated).isEqualTo(2);
+        assertThat(employeeRepository.findViewsByIds(ids))
+                .allSatisfy(view -> {
+                    assertThat(view.getLastName()).isEqualTo("Verma");
+                    assertThat(view.getVersion()).isEqualTo(1);
+                });
+        assertThat(employeeRepository.findById(employee2.getId()).get().getLastName()).isEqualTo("Singh");
+    }
+
     // custom query JPQL with indexed parameter operation
     @Test
     @DisplayName("findByFullNameJPQLIndexed")
@@ -0,0 +1,156 @@
+package com.example.repository;
+
+import com.example.model.Employee;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.DatabasePopulatorUtils;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+// three separate in-memory H2 databases as shards
+public class ShardedEmployeeRepositoryTests {
+    private static final int SHARDS = 3;
+
+    private final List<DataSource> shards = new ArrayList<>();
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private ShardedEmployeeRepository underTest;
+
+    @BeforeEach
+    public void setup() {
+        ResourceDatabasePopulator schema = new ResourceDatabasePopulator(new ClassPathResource("employee-shard-schema.sql"));
+        for (int i = 0; i < SHARDS; i++) {
+            DataSource shard = new DriverManagerDataSource("jdbc:h2:mem:shard-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+            DatabasePopulatorUtils.execute(schema, shard);
+            shards.add(shard);
+        }
+        underTest = new ShardedEmployeeRepository(shards, new EmployeeIdGenerator(1), executor);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        shards.forEach(shard -> new JdbcTemplate(shard).execute("drop all objects"));
+        executor.close();
+    }
+
+    // rows spread over every shard; a page is merged across them in id order
+    @Test
+    @DisplayName("insert / findById / findPage")
+    public void givenEmployeesOnAllShards_whenFindPage_thenMergedInIdOrder() {
+        // given
+        List<Employee> saved = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            saved.add(underTest.insert(employee("Shard", "Employee" + i, "shard" + i + "@gmail.com")));
+        }
+        List<Long> ids = saved.stream().map(Employee::getId).sorted().toList();
+
+        // when
+        List<Employee> firstPage = underTest.findPage(0, 20);
+        List<Employee> secondPage = underTest.findPage(firstPage.get(19).getId(), 20);
+
+        // then
+        assertThat(firstPage).extracting(Employee::getId).containsExactlyElementsOf(ids.subList(0, 20));
+        assertThat(secondPage).extracting(Employee::getId).containsExactlyElementsOf(ids.subList(20, 30));
+        assertThat(underTest.findById(saved.get(7).getId())).hasValueSatisfying(
+                employee -> assertThat(employee.getEmail()).isEqualTo("shard7@gmail.com"));
+        for (DataSource shard : shards) {
+            assertThat(new JdbcTemplate(shard).queryForObject("select count(*) from employees", Long.class)).isPositive();
+        }
+        assertThat(underTest.count()).isEqualTo(30);
+    }
+
+    // emails are unique across shards through the email directory
+    @Test
+    @DisplayName("insert - duplicate email")
+    public void givenSavedEmployee_whenInsertSameEmail_thenDuplicateKeyException() {
+        // given
+        Employee adarsh = underTest.insert(employee("Adarsh", "Kumar", "adarsh@gmail.com"));
+
+        // when / then
+        for (int i = 0; i < 10; i++) {
+            // new ids land on various shards; every one of them must be refused
+            assertThatExceptionOfType(DuplicateKeyException.class)
+                    .isThrownBy(() -> underTest.insert(employee("Anand", "Kumar", "adarsh@gmail.com")));
+        }
+        assertThat(underTest.findByEmail("adarsh@gmail.com")).hasValue(adarsh);
+        assertThat(underTest.count()).isEqualTo(1);
+    }
+
+    // an email change moves the claim; the old email is free again
+    @Test
+    @DisplayName("update - email change")
+    public void givenSavedEmployee_whenUpdateEmail_thenOldEmailReleased() {
+        // given
+        Employee adarsh = underTest.insert(employee("Adarsh", "Kumar", "adarsh@gmail.com"));
+
+        // when
+        Employee updated = underTest.update(adarsh, employee("Adarsh", "Kumar", "adarsh.kumar@gmail.com")).orElseThrow();
+        Employee stale = employee("Adarsh", "Singh", "adarsh.singh@gmail.com");
+
+        // then
+        assertThat(updated.getVersion()).isEqualTo(1);
+        assertThat(underTest.findByEmail("adarsh.kumar@gmail.com")).hasValue(updated);
+        assertThat(underTest.findByEmail("adarsh@gmail.com")).isEmpty();
+        assertThat(underTest.insert(employee("Anand", "Kumar", "adarsh@gmail.com")).getId()).isNotEqualTo(adarsh.getId());
+        // at the old version nothing changes, and the email it tried to claim stays free
+        assertThat(underTest.update(adarsh, stale)).isEmpty();
+        assertThat(underTest.insert(employee("Ajay", "Singh", "adarsh.singh@gmail.com"))).isNotNull();
+    }
+
+    // a claim left by a create that failed halfway doesn't block the email forever
+    @Test
+    @DisplayName("insert - stale email claim")
+    public void givenStaleClaim_whenInsert_thenClaimTakenOver() {
+        // given
+        String email = "orphan@gmail.com";
+        new JdbcTemplate(shards.get(underTest.emailShardOf(email))).update(
+                "insert into employee_emails (email, employee_id, claimed_at) values (?, ?, ?)",
+                email, 42L, Timestamp.from(Instant.now().minus(ShardedEmployeeRepository.STALE_CLAIM_AGE.multipliedBy(2))));
+
+        // when
+        Employee employee = underTest.insert(employee("Orphan", "Claim", email));
+
+        // then
+        assertThat(underTest.findByEmail(email)).hasValue(employee);
+    }
+
+    // delete releases the email
+    @Test
+    @DisplayName("deleteById")
+    public void givenSavedEmployee_whenDeleteById_thenRowAndEmailRemoved() {
+        // given
+        Employee adarsh = underTest.insert(employee("Adarsh", "Kumar", "adarsh@gmail.com"));
+
+        // when
+        boolean deleted = underTest.deleteById(adarsh.getId());
+
+        // then
+        assertThat(deleted).isTrue();
+        assertThat(underTest.deleteById(adarsh.getId())).isFalse();
+        assertThat(underTest.findById(adarsh.getId())).isEmpty();
+        assertThat(underTest.insert(employee("Anand", "Kumar", "adarsh@gmail.com"))).isNotNull();
+    }
+
+    private static Employee employee(String firstName, String lastName, String email) {
+        return Employee.builder().firstName(firstName).lastName(lastName).email(email).build();
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BloomFilterTests {
+    private static final int INSERTIONS = 100_000;
+
+    // whatever was put is always found
+    @Test
+    @DisplayName("mightContain - no false negatives")
+    public void givenPutHashes_whenMightContain_thenAllFound() {
+        // given
+        BloomFilter underTest = new BloomFilter(INSERTIONS, 0.01);
+        for (long id = 1; id <= INSERTIONS; id++) {
+            underTest.put(BloomFilter.hash(id));
+        }
+
+        // when / then
+        for (long id = 1; id <= INSERTIONS; id++) {
+            assertThat(underTest.mightContain(BloomFilter.hash(id))).isTrue();
+        }
+        assertThat(underTest.mightContain(BloomFilter.hash("adarsh@gmail.com"))).isFalse();
+    }
+
+    // at capacity the false-positive rate stays near the target
+    @Test
+    @DisplayName("mightContain - false-positive rate")
+    public void givenFilterAtCapacity_whenAbsentHashesChecked_thenRateNearTarget() {
+        // given
+        BloomFilter underTest = new BloomFilter(INSERTIONS, 0.01);
+        for (int i = 0; i < INSERTIONS; i++) {
+            underTest.put(BloomFilter.hash("employee" + i + "@gmail.com"));
+        }
+
+        // when
+        int falsePositives = 0;
+        for (int i = 0; i < INSERTIONS; i++) {
+            if (underTest.mightContain(BloomFilter.hash("absent" + i + "@gmail.com"))) {
+                falsePositives++;
+            }
+        }
+
+        // then
+        assertThat((double) falsePositives / INSERTIONS).isLessThan(0.015);
+        assertThat(underTest.expectedFalsePositiveProbability()).isBetween(0.005, 0.015);
+        // about 9.6 bits per entry at 1%
+        assertThat(underTest.sizeInBytes()).isBetween(110_000L, 130_000L);
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.service;
+
+import com.example.model.EmployeeChange;
+import com.example.model.EmployeeChangePage;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+public class EmployeeChangeBroadcasterTests {
+    private final EmployeeChangeLog changeLogMock = mock(EmployeeChangeLog.class);
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    // holds every send of the stalled client until released
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private EmployeeChangeBroadcaster underTest;
+
+    @BeforeEach
+    public void setup() {
+        underTest = new EmployeeChangeBroadcaster();
+        ReflectionTestUtils.setField(underTest, "streamTimeout", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(underTest, "changeLog", changeLogMock);
+        ReflectionTestUtils.setField(underTest, "meterRegistry", meterRegistry);
+        underTest.init();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        release.countDown();
+        underTest.shutdown();
+    }
+
+    // a stalled client doesn't hold up the others
+    @Test
+    @DisplayName("publish - stalled subscriber")
+    public void givenStalledSubscriber_whenChangesAppended_thenOtherSubscribersReceiveThem() throws Exception {
+        // given
+        ReflectionTestUtils.setField(underTest, "subscriberBuffer", 100);
+        givenChanges(3);
+        CountDownLatch received = new CountDownLatch(3);
+        underTest.subscribe(stalledEmitter(), 0);
+
+        // when
+        underTest.subscribe(new SseEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) {
+                received.countDown();
+            }
+        }, 0);
+
+        // then
+        assertThat(received.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    // a client that falls further behind than its buffer is closed
+    @Test
+    @DisplayName("publish - subscriber buffer overflows")
+    public void givenStalledSubscriber_whenMoreChangesThanBuffer_thenSubscriberClosed() {
+        // given
+        ReflectionTestUtils.setField(underTest, "subscriberBuffer", 2);
+        givenChanges(5);
+
+        // when
+        underTest.subscribe(stalledEmitter(), 0);
+
+        // then
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("employee.changes.overflowed").counter().count() < 1 && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertThat(meterRegistry.get("employee.changes.overflowed").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("employee.changes.subscribers").gauge().value()).isZero();
+    }
+
+    private void givenChanges(int count) {
+        given(changeLogMock.getLatestChanges(anyLong(), anyInt())).willAnswer(invocation -> {
+            long since = invocation.getArgument(0);
+            List<EmployeeChange> changes = LongStream.rangeClosed(since + 1, count)
+                    .mapToObj(seq -> EmployeeChange.builder().seq(seq).employeeId(seq).type(EmployeeChange.Type.UPSERT).build())
+                    .toList();
+            return new EmployeeChangePage(changes, changes.isEmpty() ? since : changes.get(changes.size() - 1).getSeq());
+        });
+    }
+
+    private SseEmitter stalledEmitter() {
+        return new SseEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.service;
+
+import com.example.exception.ResourceAlreadyExistsException;
+import com.example.model.Employee;
+import com.example.model.EmployeeChange;
+import com.example.model.EmployeeChangePage;
+import com.example.model.EmployeePatch;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+@SpringBootTest
+public class EmployeeChangeLogTests {
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeChangeLog changeLog;
+
+    // every committed write is in the feed, in order, deletes as tombstones
+    @Test
+    @DisplayName("change feed - create, patch, delete")
+    public void givenWrites_whenGetChanges_thenOneChangePerWriteInOrder() {
+        // given
+        long since = latestSeq();
+        Employee employee = employeeService.saveEmployee(Employee.builder()
+                .firstName("Change").lastName("Feed").email("change.feed@gmail.com").build());
+        employeeService.patchEmployee(employee.getId(), EmployeePatch.builder().lastName("Log").build());
+        employeeService.deleteEmployee(employee.getId());
+
+        // when
+        EmployeeChangePage page = changeLog.getChanges(since, 10);
+
+        // then
+        assertThat(page.getChanges()).extracting(EmployeeChange::getSeq).containsExactly(since + 1, since + 2, since + 3);
+        assertThat(page.getChanges()).extracting(EmployeeChange::getType).containsExactly(
+                EmployeeChange.Type.UPSERT, EmployeeChange.Type.UPSERT, EmployeeChange.Type.DELETE);
+        assertThat(page.getChanges().get(1).getLastName()).isEqualTo("Log");
+        assertThat(page.getChanges().get(1).getVersion()).isEqualTo(1L);
+        assertThat(page.getChanges().get(2).getEmail()).isNull();
+        assertThat(page.getNextSince()).isEqualTo(since + 3);
+    }
+
+    // the change log is written in the transaction of the change, so a rolled back write leaves no entry
+    @Test
+    @DisplayName("change feed - failed write")
+    public void givenDuplicateEmail_whenSaveEmployee_thenNoChange() {
+        // given
+        employeeService.saveEmployee(Employee.builder().firstName("Adarsh").lastName("Kumar").email("feed.duplicate@gmail.com").build());
+        long since = latestSeq();
+
+        // when
+        assertThatExceptionOfType(ResourceAlreadyExistsException.class)
+                .isThrownBy(() -> employeeService.saveEmployee(Employee.builder()
+                        .firstName("Anand").lastName("Kumar").email("feed.duplicate@gmail.com").build()));
+
+        // then
+        assertThat(changeLog.getChanges(since, 10).getChanges()).isEmpty();
+    }
+
+    // bulk writes append one change per employee
+    @Test
+    @DisplayName("change feed - bulk delete")
+    public void givenSavedEmployees_whenDeleteEmployees_thenTombstonePerDeletedEmployee() {
+        // given
+        List<Long> ids = employeeService.saveEmployees(List.of(
+                        Employee.builder().firstName("Bulk").lastName("One").email("bulk.one@gmail.com").build(),
+                        Employee.builder().firstName("Bulk").lastName("Two").email("bulk.two@gmail.com").build()))
+                .stream().map(result -> result.getEmployee().getId()).toList();
+        long since = latestSeq();
+
+        // when
+        employeeService.deleteEmployees(List.of(ids.get(0), ids.get(1), Long.MAX_VALUE));
+
+        // then
+        assertThat(changeLog.getChanges(since, 10).getChanges())
+                .extracting(EmployeeChange::getEmployeeId)
+                .containsExactlyInAnyOrderElementsOf(ids);
+    }
+
+    private long latestSeq() {
+        long seq = 0;
+        for (EmployeeChangePage page = changeLog.getChanges(seq, 1000); !page.getChanges().isEmpty(); page = changeLog.getChanges(seq, 1000)) {
+            seq = page.getNextSince();
+        }
+        return seq;
+    }
+}
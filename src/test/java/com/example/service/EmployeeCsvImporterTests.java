@@ -0,0 +1,127 @@
+package com.example.service;
+
+import com.example.model.EmployeeImport;
+import com.example.repository.EmployeeRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+@SpringBootTest(properties = "employee.import.chunk-size=2")
+public class EmployeeCsvImporterTests {
+    @Autowired
+    private EmployeeCsvImporter importer;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    // header in any column order, duplicates counted, malformed rows rejected with their line
+    @Test
+    @DisplayName("importCsv - header, duplicates and rejects")
+    public void givenCsv_whenImportCsv_thenRowsImportedAndCounted() throws IOException {
+        // given
+        String csv = "email,first_name,last_name\n"
+                + "csv.one@gmail.com,Csv,One\n"
+                + "csv.two@gmail.com,Csv,Two\n"
+                + "csv.one@gmail.com,Csv,Again\n"
+                + "not-an-email,Csv,Bad\n"
+                + "csv.three@gmail.com,,Three\n"
+                + "csv.four@gmail.com,Csv,Four\n";
+
+        // when
+        EmployeeImport result = importer.importCsv("header-import", channel(csv));
+
+        // then
+        assertThat(result.getStatus()).isEqualTo(EmployeeImport.Status.COMPLETED);
+        assertThat(result.getImported()).isEqualTo(3);
+        assertThat(result.getDuplicates()).isEqualTo(1);
+        assertThat(result.getRejected()).isEqualTo(2);
+        assertThat(result.getRejectedRows()).containsExactly("line 5: email is not valid", "line 6: firstname is blank");
+        assertThat(result.getCommittedLines()).isEqualTo(7);
+        assertThat(employeeRepository.findByEmail("csv.four@gmail.com")).hasValueSatisfying(
+                employee -> assertThat(employee.getLastName()).isEqualTo("Four"));
+    }
+
+    // a first row that happens to contain a column name is data, not a header
+    @Test
+    @DisplayName("importCsv - headerless file")
+    public void givenFirstRowWithColumnName_whenImportCsv_thenImportedAsData() throws IOException {
+        // given
+        String csv = "Header,Email,header.email@gmail.com\n"
+                + "Header,Two,header.two@gmail.com\n";
+
+        // when
+        EmployeeImport result = importer.importCsv("headerless-import", channel(csv));
+
+        // then
+        assertThat(result.getStatus()).isEqualTo(EmployeeImport.Status.COMPLETED);
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(employeeRepository.findByEmail("header.email@gmail.com")).hasValueSatisfying(
+                employee -> assertThat(employee.getLastName()).isEqualTo("Email"));
+    }
+
+    // a failed import keeps its committed chunks; re-running it skips them
+    @Test
+    @DisplayName("importCsv - resume after failure")
+    public void givenFailedImport_whenImportCsvAgain_thenResumesAfterCommittedChunk() throws IOException {
+        // given
+        String csv = "Resume,One,resume.one@gmail.com\n"
+                + "Resume,Two,resume.two@gmail.com\n"
+                + "Resume,Three,resume.three@gmail.com\n"
+                + "Resume,Four,resume.four@gmail.com\n";
+        int failAt = csv.indexOf("Resume,Four");
+        assertThatExceptionOfType(IOException.class)
+                .isThrownBy(() -> importer.importCsv("resumed-import", failingChannel(csv, failAt)));
+        EmployeeImport failed = importer.getImport("resumed-import").orElseThrow();
+
+        // when
+        EmployeeImport result = importer.importCsv("resumed-import", channel(csv));
+
+        // then
+        assertThat(failed.getStatus()).isEqualTo(EmployeeImport.Status.FAILED);
+        assertThat(failed.getImported()).isEqualTo(2);
+        assertThat(result.getStatus()).isEqualTo(EmployeeImport.Status.COMPLETED);
+        assertThat(result.getImported()).isEqualTo(4);
+        assertThat(result.getDuplicates()).isZero();
+        assertThat(employeeRepository.findByEmail("resume.four@gmail.com")).isPresent();
+    }
+
+    private static ReadableByteChannel channel(String csv) {
+        return Channels.newChannel(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    // serves the first bytes of the CSV, then fails like a dropped connection
+    private static ReadableByteChannel failingChannel(String csv, int failAt) {
+        ReadableByteChannel delegate = Channels.newChannel(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8), 0, failAt));
+        return new ReadableByteChannel() {
+
+            @Override
+            public int read(ByteBuffer dst) throws IOException {
+                int read = delegate.read(dst);
+                if (read < 0) {
+                    throw new IOException("connection reset");
+                }
+                return read;
+            }
+
+            @Override
+            public boolean isOpen() {
+                return true;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class EmployeeCsvReaderTests {
+    private static EmployeeCsvReader reader(String csv, int bufferSize) {
+        return new EmployeeCsvReader(Channels.newChannel(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8))), bufferSize);
+    }
+
+    // quoted fields, CRLF, blank lines and a last line without a line break; the buffer is smaller than the input
+    @Test
+    @DisplayName("read - quoting and line endings")
+    public void givenQuotedCsv_whenRead_thenFieldsUnescaped() throws IOException {
+        // given
+        String csv = "Adarsh,Kumar,adarsh@gmail.com\r\n"
+                + "\"Kumar, Anand\",\"O\"\"Brien\",\"multi\nline\"\n"
+                + "\n"
+                + "Åsa,,";
+        EmployeeCsvReader underTest = reader(csv, 48);
+        String[] fields = new String[3];
+
+        // when / then
+        assertThat(underTest.read(fields)).isEqualTo(3);
+        assertThat(fields).containsExactly("Adarsh", "Kumar", "adarsh@gmail.com");
+        assertThat(underTest.read(fields)).isEqualTo(3);
+        assertThat(fields).containsExactly("Kumar, Anand", "O\"Brien", "multi\nline");
+        assertThat(underTest.read(fields)).isZero();
+        assertThat(underTest.read(fields)).isEqualTo(3);
+        assertThat(fields).containsExactly("Åsa", "", "");
+        assertThat(underTest.read(fields)).isEqualTo(-1);
+        assertThat(underTest.line()).isEqualTo(4);
+        assertThat(underTest.offset()).isEqualTo(csv.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    // a resumed import jumps to the committed offset
+    @Test
+    @DisplayName("skipTo - committed offset")
+    public void givenCommittedOffset_whenSkipTo_thenReadsFromThere() throws IOException {
+        // given
+        String csv = "a,b,c\nd,e,f\ng,h,i\n";
+        EmployeeCsvReader underTest = reader(csv, 8);
+        String[] fields = new String[3];
+
+        // when
+        underTest.read(fields);
+        underTest.skipTo(12, 2);
+
+        // then
+        assertThat(underTest.read(fields)).isEqualTo(3);
+        assertThat(fields).containsExactly("g", "h", "i");
+        assertThat(underTest.line()).isEqualTo(3);
+    }
+
+    // a record must fit in the buffer
+    @Test
+    @DisplayName("read - record longer than buffer")
+    public void givenLongRecord_whenRead_thenIOException() {
+        // given
+        EmployeeCsvReader underTest = reader("a,b,c\n" + "x".repeat(64) + ",y,z\n", 16);
+        String[] fields = new String[3];
+
+        // when / then
+        assertThatExceptionOfType(IOException.class)
+                .isThrownBy(() -> {
+                    underTest.read(fields);
+                    underTest.read(fields);
+                })
+                .withMessageContaining("record 2");
+    }
+}
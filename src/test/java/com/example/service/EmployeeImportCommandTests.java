@@ -0,0 +1,54 @@
+package com.example.service;
+
+import com.example.repository.EmployeeRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+public class EmployeeImportCommandTests {
+    private static final Path FILE = csv("firstName,lastName,email\n"
+            + "Command,One,command.one@gmail.com\n"
+            + "Command,Two,command.two@gmail.com\n");
+
+    @Autowired
+    private EmployeeImportCommand importCommand;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @DynamicPropertySource
+    static void importFile(DynamicPropertyRegistry registry) {
+        registry.add("employee.import.file", FILE::toString);
+    }
+
+    // the import runs at startup and reports its exit code instead of exiting the JVM that loaded it
+    @Test
+    @DisplayName("run - exit code")
+    public void givenImportFile_whenContextStarts_thenImportedAndExitCodeZero() {
+        // then
+        assertThat(employeeRepository.findByEmail("command.one@gmail.com")).isPresent();
+        assertThat(employeeRepository.findByEmail("command.two@gmail.com")).isPresent();
+        assertThat(importCommand.getExitCode()).isZero();
+    }
+
+    private static Path csv(String content) {
+        try {
+            Path file = Files.createTempFile("employees", ".csv");
+            file.toFile().deleteOnExit();
+            return Files.writeString(file, content);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.example.service;
+
+import com.example.exception.IngestQueueClosedException;
+import com.example.exception.IngestQueueFullException;
+import com.example.exception.ResourceAlreadyExistsException;
+import com.example.model.Employee;
+import com.example.model.EmployeeBatchResult;
+import com.example.model.EmployeeIngestTicket;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class EmployeeIngestQueueTests {
+    @Mock
+    private EmployeeService employeeServiceMock;
+
+    @Spy
+    private SimpleMeterRegistry meterRegistry;
+
+    @InjectMocks
+    private EmployeeIngestQueue underTest;
+
+    private Employee employee;
+
+    @BeforeEach
+    public void setup() {
+        ReflectionTestUtils.setField(underTest, "capacity", 2);
+        ReflectionTestUtils.setField(underTest, "batchSize", 10);
+        ReflectionTestUtils.setField(underTest, "maxDelay", Duration.ofMillis(10));
+        ReflectionTestUtils.setField(underTest, "ticketTtl", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(underTest, "maxTickets", 100L);
+        ReflectionTestUtils.setField(underTest, "shutdownTimeout", Duration.ofSeconds(5));
+        underTest.init();
+
+        employee = Employee.builder()
+                .firstName("Adarsh")
+                .lastName("Kumar")
+                .email("adarsh@gmail.com")
+                .build();
+    }
+
+    // submit operation - throws IngestQueueClosedException when not started
+    @Test
+    @DisplayName("submit - not accepting")
+    public void givenStoppedQueue_whenSubmit_thenThrowsIngestQueueClosedException() {
+        // when
+        assertThatExceptionOfType(IngestQueueClosedException.class)
+                .isThrownBy(() -> underTest.submit(employee));
+
+        // then
+        assertThat(meterRegistry.get("employee.ingest.rejected").counter().count()).isEqualTo(1);
+    }
+
+    // submit operation - throws IngestQueueFullException when the queue is full
+    @Test
+    @DisplayName("submit - queue full")
+    public void givenFullQueue_whenSubmit_thenThrowsIngestQueueFullException() {
+        // given
+        ReflectionTestUtils.setField(underTest, "accepting", true);
+        underTest.submit(employee);
+        underTest.submit(employee);
+
+        // when
+        assertThatExceptionOfType(IngestQueueFullException.class)
+                .isThrownBy(() -> underTest.submit(employee));
+
+        // then
+        assertThat(meterRegistry.get("employee.ingest.queue.size").gauge().value()).isEqualTo(2);
+    }
+
+    // write operation - each ticket gets its item's outcome
+    @Test
+    @DisplayName("write")
+    public void givenBatch_whenWrite_thenTicketsCompleted() {
+        // given
+        ReflectionTestUtils.setField(underTest, "accepting", true);
+        Employee duplicate = Employee.builder().firstName("Anand").lastName("Kumar").email("adarsh@gmail.com").build();
+        EmployeeIngestTicket ticket = underTest.submit(employee);
+        EmployeeIngestTicket duplicateTicket = underTest.submit(duplicate);
+
+        given(employeeServiceMock.saveEmployees(List.of(employee, duplicate))).willReturn(List.of(
+                new EmployeeBatchResult(0, EmployeeBatchResult.Status.CREATED, employee, null),
+                new EmployeeBatchResult(1, EmployeeBatchResult.Status.DUPLICATE, duplicate, "duplicate")));
+
+        // when
+        underTest.write(List.of(
+                new EmployeeIngestQueue.Pending(ticket.getId(), employee),
+                new EmployeeIngestQueue.Pending(duplicateTicket.getId(), duplicate)));
+
+        // then
+        assertThat(underTest.getTicket(ticket.getId()))
+                .hasValueSatisfying(value -> assertThat(value.getStatus()).isEqualTo(EmployeeIngestTicket.Status.CREATED));
+        assertThat(underTest.getTicket(duplicateTicket.getId()))
+                .hasValueSatisfying(value -> assertThat(value.getStatus()).isEqualTo(EmployeeIngestTicket.Status.DUPLICATE));
+    }
+
+    // write operation - a rolled back batch is retried item by item
+    @Test
+    @DisplayName("write - falls back to single creates")
+    public void givenConcurrentDuplicate_whenWrite_thenItemsRetriedOneByOne() {
+        // given
+        given(employeeServiceMock.saveEmployees(anyList())).willThrow(new ResourceAlreadyExistsException("duplicate"));
+        given(employeeServiceMock.saveEmployee(any(Employee.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        underTest.write(List.of(new EmployeeIngestQueue.Pending("ticket", employee)));
+
+        // then
+        verify(employeeServiceMock, times(1)).saveEmployee(any(Employee.class));
+        assertThat(underTest.getTicket("ticket"))
+                .hasValueSatisfying(value -> assertThat(value.getStatus()).isEqualTo(EmployeeIngestTicket.Status.CREATED));
+    }
+
+    // lifecycle - stop drains what is queued
+    @Test
+    @DisplayName("stop - drains the queue")
+    public void givenQueuedEmployees_whenStop_thenAllWritten() {
+        // given
+        given(employeeServiceMock.saveEmployees(anyList())).willAnswer(invocation -> {
+            List<Employee> employees = invocation.getArgument(0);
+            return employees.stream()
+                    .map(e -> new EmployeeBatchResult(employees.indexOf(e), EmployeeBatchResult.Status.CREATED, e, null))
+                    .toList();
+        });
+        underTest.start();
+        EmployeeIngestTicket ticket = underTest.submit(employee);
+
+        // when
+        underTest.stop();
+
+        // then
+        assertThat(underTest.isRunning()).isFalse();
+        assertThat(underTest.getTicket(ticket.getId()))
+                .hasValueSatisfying(value -> assertThat(value.getStatus()).isEqualTo(EmployeeIngestTicket.Status.CREATED));
+        assertThatExceptionOfType(IngestQueueClosedException.class)
+                .isThrownBy(() -> underTest.submit(employee));
+    }
+
+    // lifecycle - stop gives up on what the writer can't reach within the shutdown timeout
+    @Test
+    @DisplayName("stop - shutdown timeout")
+    public void givenStuckWriter_whenStop_thenQueuedTicketsFailed() throws InterruptedException {
+        // given
+        ReflectionTestUtils.setField(underTest, "batchSize", 1);
+        ReflectionTestUtils.setField(underTest, "shutdownTimeout", Duration.ofMillis(100));
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(employeeServiceMock.saveEmployees(anyList())).willAnswer(invocation -> {
+            writing.countDown();
+            release.await();
+            List<Employee> employees = invocation.getArgument(0);
+            return List.of(new EmployeeBatchResult(0, EmployeeBatchResult.Status.CREATED, employees.get(0), null));
+        });
+        underTest.start();
+        EmployeeIngestTicket first = underTest.submit(employee);
+        EmployeeIngestTicket second = underTest.submit(employee);
+        assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        underTest.stop();
+
+        // then
+        assertThat(underTest.getTicket(second.getId()))
+                .hasValueSatisfying(value -> assertThat(value.getStatus()).isEqualTo(EmployeeIngestTicket.Status.FAILED));
+        assertThat(meterRegistry.get("employee.ingest.dropped").counter().count()).isEqualTo(1);
+        assertThat(underTest.getTicket(first.getId()))
+                .hasValueSatisfying(value -> assertThat(value.getStatus()).isEqualTo(EmployeeIngestTicket.Status.QUEUED));
+        release.countDown();
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.service;
+
+import com.example.model.Employee;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+public class EmployeeMembershipFilterTests {
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeMembershipFilter membershipFilter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // an id that was never written is ruled out without a lookup; a created one is found right away
+    @Test
+    @DisplayName("getEmployeeById - filtered")
+    public void givenFilterBuilt_whenGetEmployeeById_thenUnknownIdsSkipLookup() {
+        // given
+        Employee employee = employeeService.saveEmployee(Employee.builder()
+                .firstName("Bloom").lastName("Filter").email("bloom.filter@gmail.com").build());
+        double negatives = lookups("id", "negative");
+
+        // when
+        boolean unknownFound = employeeService.getEmployeeById(Long.MAX_VALUE - 1).isPresent();
+
+        // then
+        assertThat(unknownFound).isFalse();
+        assertThat(lookups("id", "negative")).isEqualTo(negatives + 1);
+        assertThat(employeeService.getEmployeeById(employee.getId())).isPresent();
+        assertThat(employeeService.getEmployeeByEmail("bloom.filter@gmail.com")).isPresent();
+        assertThat(meterRegistry.get(EmployeeMembershipFilter.MEMORY).tag("filter", "email").gauge().value()).isPositive();
+    }
+
+    // rows written behind the service's back are only known after a rebuild
+    @Test
+    @DisplayName("rebuild - picks up direct inserts")
+    public void givenDirectInsert_whenRebuild_thenEmployeeFound() {
+        // given
+        long id = 900_000_001L;
+        jdbcTemplate.update("insert into employees (id, first_name, last_name, email, version, updated_at) values (?, ?, ?, ?, 0, ?)",
+                id, "Direct", "Insert", "direct.insert@gmail.com", Timestamp.from(Instant.now()));
+        boolean mightContainBefore = membershipFilter.mightContainEmail("direct.insert@gmail.com");
+
+        // when
+        membershipFilter.rebuild();
+
+        // then
+        assertThat(mightContainBefore).isFalse();
+        assertThat(employeeService.getEmployeeById(id)).isPresent();
+        assertThat(employeeService.getEmployeeByEmail("direct.insert@gmail.com")).isPresent();
+    }
+
+    // a rebuild that scans and swaps in while a create is uncommitted still ends up with the employee
+    @Test
+    @DisplayName("rebuild - during a create")
+    public void givenUncommittedCreate_whenRebuildCompletesBeforeCommit_thenEmployeeFound() {
+        // given
+        transactionTemplate.executeWithoutResult(status -> {
+            employeeService.saveEmployee(Employee.builder()
+                    .firstName("Concurrent").lastName("Rebuild").email("concurrent.rebuild@gmail.com").build());
+
+            // when
+            CompletableFuture.runAsync(membershipFilter::rebuild).join();
+        });
+
+        // then
+        assertThat(membershipFilter.mightContainEmail("concurrent.rebuild@gmail.com")).isTrue();
+    }
+
+    private double lookups(String filter, String result) {
+        return meterRegistry.get(EmployeeMembershipFilter.LOOKUPS).tag("filter", filter).tag("result", result).counter().count();
+    }
+}
@@ -0,0 +1,189 @@
+package com.example.service;
+
+import com.example.model.Employee;
+import com.example.model.EmployeeChange;
+import com.example.model.EmployeeChangePage;
+import com.example.model.EmployeeView;
+import com.example.repository.EmployeeRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+public class EmployeeSearchIndexTests {
+    private final EmployeeRepository employeeRepositoryMock = mock(EmployeeRepository.class);
+
+    private final EmployeeChangeLog changeLogMock = mock(EmployeeChangeLog.class);
+
+    // what changeLogMock serves, in sequence order
+    private final List<EmployeeChange> log = new CopyOnWriteArrayList<>();
+
+    private EmployeeSearchIndex underTest;
+
+    @BeforeEach
+    public void setup() {
+        underTest = new EmployeeSearchIndex();
+        ReflectionTestUtils.setField(underTest, "employeeRepository", employeeRepositoryMock);
+        ReflectionTestUtils.setField(underTest, "changeLog", changeLogMock);
+        ReflectionTestUtils.setField(underTest, "entityManager", mock(EntityManager.class));
+        ReflectionTestUtils.setField(underTest, "transactionTemplate", new TransactionTemplate(mock(PlatformTransactionManager.class)));
+        given(changeLogMock.getLatestChanges(anyLong(), anyInt())).willAnswer(invocation -> {
+            long since = invocation.getArgument(0);
+            int limit = invocation.getArgument(1);
+            List<EmployeeChange> changes = log.stream().filter(change -> change.getSeq() > since).limit(limit).toList();
+            return new EmployeeChangePage(changes, changes.isEmpty() ? since : changes.get(changes.size() - 1).getSeq());
+        });
+        given(employeeRepositoryMock.streamAll()).willReturn(Stream.of(
+                Employee.builder().id(1L).firstName("Adarsh").lastName("Kumar").email("adarsh@gmail.com").build(),
+                Employee.builder().id(2L).firstName("Anand").lastName("Kumar").email("anand@gmail.com").build(),
+                Employee.builder().id(3L).firstName("Amit").lastName("Singh").email("amit.singh@yahoo.com").build()));
+        underTest.rebuild();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        underTest.shutdown();
+    }
+
+    // prefix search on names and email
+    @Test
+    @DisplayName("search - prefix")
+    public void givenIndexedEmployees_whenSearchPrefix_thenMatchingEmployees() {
+        // when
+        List<EmployeeView> byFirstName = underTest.search("ad", 10);
+        List<EmployeeView> byLastName = underTest.search("KUM", 10);
+        List<EmployeeView> byEmail = underTest.search("amit.s", 10);
+
+        // then
+        assertThat(byFirstName).extracting(EmployeeView::getId).containsExactly(1L);
+        assertThat(byLastName).extracting(EmployeeView::getId).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(byEmail).extracting(EmployeeView::getId).containsExactly(3L);
+    }
+
+    // every word of the query must match
+    @Test
+    @DisplayName("search - multiple words")
+    public void givenQueryWithTwoWords_whenSearch_thenEmployeesMatchingBoth() {
+        // when
+        List<EmployeeView> employees = underTest.search("a kumar", 10);
+
+        // then
+        assertThat(employees).extracting(EmployeeView::getId).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(underTest.search("an kumar", 10)).extracting(EmployeeView::getId).containsExactly(2L);
+    }
+
+    // updates replace the old terms and deletes drop the employee
+    @Test
+    @DisplayName("catchUp - updates and deletes")
+    public void givenUpdatedAndDeletedEmployees_whenCatchUp_thenIndexReflectsChanges() {
+        // given
+        log.add(upsert(1, 1L, "Adarsh", "Anand", "adarsh@gmail.com", 1));
+        log.add(delete(2, 3L));
+
+        // when
+        underTest.catchUp();
+
+        // then
+        assertThat(underTest.search("kumar", 10)).extracting(EmployeeView::getId).containsExactly(2L);
+        assertThat(underTest.search("anand", 10)).extracting(EmployeeView::getId).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(underTest.search("amit", 10)).isEmpty();
+        assertThat(underTest.size()).isEqualTo(2);
+    }
+
+    // an update committed before a delete of the same employee can't bring it back, whichever request finishes last
+    @Test
+    @DisplayName("catchUp - update then delete")
+    public void givenUpdateCommittedBeforeDelete_whenCatchUp_thenEmployeeStaysDeleted() {
+        // given
+        log.add(upsert(1, 2L, "Anand", "Verma", "anand@gmail.com", 1));
+        log.add(delete(2, 2L));
+
+        // when
+        underTest.catchUp();
+
+        // then
+        assertThat(underTest.search("anand", 10)).isEmpty();
+        assertThat(underTest.search("verma", 10)).isEmpty();
+        assertThat(underTest.size()).isEqualTo(2);
+    }
+
+    // a commit is indexed on the indexer thread, not the committing one
+    @Test
+    @DisplayName("onAppended")
+    public void givenCommittedCreate_whenAppended_thenIndexedShortly() {
+        // given
+        log.add(upsert(1, 4L, "Bloom", "Index", "bloom.index@gmail.com", 0));
+
+        // when
+        underTest.onAppended(new EmployeeChangeLog.Appended(1));
+
+        // then
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (underTest.search("bloom", 10).isEmpty() && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertThat(underTest.search("bloom", 10)).extracting(EmployeeView::getId).containsExactly(4L);
+    }
+
+    // limit caps the number of results
+    @Test
+    @DisplayName("search - limit")
+    public void givenLimit_whenSearch_thenAtMostLimitEmployees() {
+        // when
+        List<EmployeeView> employees = underTest.search("a", 2);
+
+        // then
+        assertThat(employees).hasSize(2);
+    }
+
+    // writes committed while the rebuild scans the table win over the rows it read before them
+    @Test
+    @DisplayName("rebuild - concurrent writes")
+    public void givenWritesDuringRebuild_whenRebuild_thenNoStaleOrDeletedEmployees() {
+        // given
+        given(employeeRepositoryMock.streamAll()).willReturn(Stream.of(
+                        Employee.builder().id(1L).firstName("Adarsh").lastName("Kumar").email("adarsh@gmail.com").build(),
+                        Employee.builder().id(2L).firstName("Anand").lastName("Kumar").email("anand@gmail.com").build())
+                // employee 1 is renamed and employee 2 deleted before the scan reaches their old rows
+                .peek(employee -> {
+                    if (employee.getId() == 1L) {
+                        log.add(upsert(1, 1L, "Adarsh", "Anand", "adarsh@gmail.com", 1));
+                    } else {
+                        log.add(delete(2, 2L));
+                    }
+                }));
+
+        // when
+        underTest.rebuild();
+
+        // then
+        assertThat(underTest.search("kumar", 10)).isEmpty();
+        assertThat(underTest.search("anand", 10)).extracting(EmployeeView::getVersion).containsExactly(1L);
+        assertThat(underTest.size()).isEqualTo(1);
+    }
+
+    private static EmployeeChange upsert(long seq, long id, String firstName, String lastName, String email, long version) {
+        return EmployeeChange.builder().seq(seq).employeeId(id).type(EmployeeChange.Type.UPSERT)
+                .firstName(firstName).lastName(lastName).email(email).version(version).build();
+    }
+
+    private static EmployeeChange delete(long seq, long id) {
+        return EmployeeChange.builder().seq(seq).employeeId(id).type(EmployeeChange.Type.DELETE).build();
+    }
+}
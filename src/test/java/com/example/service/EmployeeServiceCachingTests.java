@@ -0,0 +1,129 @@
+package com.example.service;
+
+import com.example.config.CacheConfig;
+import com.example.model.Employee;
+import com.example.repository.EmployeeRepository;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@SpringBootTest
+public class EmployeeServiceCachingTests {
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Cache employeesById;
+
+    private Cache employeesByEmail;
+
+    @BeforeEach
+    public void setup() {
+        employeesById = cacheManager.getCache(CacheConfig.EMPLOYEES_BY_ID);
+        employeesByEmail = cacheManager.getCache(CacheConfig.EMPLOYEES_BY_EMAIL);
+        employeesById.clear();
+        employeesByEmail.clear();
+    }
+
+    // read-through operation
+    @Test
+    @DisplayName("getEmployeeById - caches result")
+    public void givenSavedEmployee_whenGetEmployeeById_thenEmployeeCached() {
+        // given
+        Employee employee = employeeService.saveEmployee(Employee.builder()
+                .firstName("Adarsh")
+                .lastName("Kumar")
+                .email("adarsh.cache@gmail.com")
+                .build());
+
+        // when
+        employeeService.getEmployeeById(employee.getId());
+
+        // then
+        assertThat(employeesById.get(employee.getId())).isNotNull();
+    }
+
+    // read-through operation - misses are not cached
+    @Test
+    @DisplayName("getEmployeeById - does not cache misses")
+    public void givenUnknownEmployeeId_whenGetEmployeeById_thenNothingCached() {
+        // given
+        long employeeId = Long.MAX_VALUE;
+
+        // when
+        employeeService.getEmployeeById(employeeId);
+
+        // then
+        assertThat(employeesById.get(employeeId)).isNull();
+    }
+
+    // write-through invalidation
+    @Test
+    @DisplayName("updateEmployee - evicts stale entries")
+    public void givenCachedEmployee_whenUpdateEmployee_thenStaleEntriesEvicted() {
+        // given
+        Employee employee = employeeService.saveEmployee(Employee.builder()
+                .firstName("Anand")
+                .lastName("Kumar")
+                .email("anand.cache@gmail.com")
+                .build());
+        employeeRepository.findById(employee.getId());
+        employeeRepository.findByEmail(employee.getEmail());
+
+        // when
+        employeeService.updateEmployee(Employee.builder()
+                .id(employee.getId())
+                .firstName("Anand")
+                .lastName("K")
+                .email("anand.k.cache@gmail.com")
+                .build());
+
+        // then
+        assertThat(employeesById.get(employee.getId())).isNull();
+        assertThat(employeesByEmail.get(employee.getEmail())).isNull();
+        assertThat(employeeService.getEmployeeById(employee.getId()))
+                .hasValueSatisfying(updated -> assertThat(updated.getLastName()).isEqualTo("K"));
+    }
+
+    // a PUT replaces whatever is stored, even when the copy it read is behind
+    @Test
+    @DisplayName("updateEmployee - stale cached copy")
+    public void givenStaleCachedEmployee_whenUpdateEmployee_thenReplaced() {
+        // given
+        Employee employee = employeeService.saveEmployee(Employee.builder()
+                .firstName("Amit")
+                .lastName("Kumar")
+                .email("amit.stale@gmail.com")
+                .build());
+        employeeRepository.findById(employee.getId());
+        jdbcTemplate.update("update employees set version = version + 1 where id = ?", employee.getId());
+
+        // when
+        Employee updated = employeeService.updateEmployee(Employee.builder()
+                .id(employee.getId())
+                .firstName("Amit")
+                .lastName("Singh")
+                .email("amit.stale@gmail.com")
+                .build());
+
+        // then
+        assertThat(updated.getVersion()).isEqualTo(2);
+        assertThat(employeeService.getEmployeeById(employee.getId()))
+                .hasValueSatisfying(stored -> assertThat(stored.getLastName()).isEqualTo("Singh"));
+    }
+}
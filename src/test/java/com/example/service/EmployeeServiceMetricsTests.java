@@ -0,0 +1,89 @@
+package com.example.service;
+
+import com.example.exception.ResourceNotFoundException;
+import com.example.model.Employee;
+import io.micrometer.core.instrument.MeterRegistry;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+public class EmployeeServiceMetricsTests {
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    // per-operation timer
+    @Test
+    @DisplayName("getEmployeeById - timed")
+    public void givenEmployeeId_whenGetEmployeeById_thenOperationTimed() {
+        // given
+        long before = timerCount("get-by-id");
+
+        // when
+        employeeService.getEmployeeById(Long.MAX_VALUE);
+
+        // then
+        assertThat(timerCount("get-by-id")).isEqualTo(before + 1);
+    }
+
+    // failure counter
+    @Test
+    @DisplayName("updateEmployee - counts ResourceNotFoundException")
+    public void givenUnknownEmployee_whenUpdateEmployee_thenFailureCounted() {
+        // given
+        Employee employee = Employee.builder().id(Long.MAX_VALUE).firstName("Adarsh").lastName("Kumar").email("adarsh@gmail.com").build();
+
+        // when
+        assertThatExceptionOfType(ResourceNotFoundException.class)
+                .isThrownBy(() -> employeeService.updateEmployee(employee));
+
+        // then
+        assertThat(meterRegistry.get(EmployeeService.FAILURES)
+                .tag("operation", "update")
+                .tag("exception", ResourceNotFoundException.class.getSimpleName())
+                .counter()
+                .count()).isGreaterThanOrEqualTo(1);
+    }
+
+    // prometheus scrape endpoint
+    @Test
+    @DisplayName("prometheus endpoint")
+    public void givenTimedOperation_whenScrapePrometheus_thenServiceRepositoryAndPoolMetricsExposed() throws Exception {
+        // given
+        employeeService.getAllEmployees();
+
+        // when / then
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("employee_service_seconds_bucket")))
+                .andExpect(content().string(containsString("spring_data_repository_invocations_seconds")))
+                .andExpect(content().string(containsString("hikaricp_connections_active")))
+                .andExpect(content().string(containsString("hibernate_statements_total")));
+    }
+
+    private long timerCount(String operation) {
+        return meterRegistry.find(EmployeeService.TIMER).tag("operation", operation).timers().stream()
+                .mapToLong(timer -> timer.count())
+                .sum();
+    }
+}
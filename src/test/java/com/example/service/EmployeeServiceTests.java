@@ -1,9 +1,23 @@
 package com.example.service;
 
+import com.example.config.CacheConfig;
+import com.example.exception.InvalidRequestException;
 import com.example.exception.ResourceAlreadyExistsException;
 import com.example.exception.ResourceNotFoundException;
 import com.example.model.Employee;
+import com.example.model.EmployeeBatchResult;
+import com.example.model.EmployeeBulkResult;
+import com.example.model.EmployeeBulkUpdate;
+import com.example.model.EmployeeFieldsPage;
+import com.example.model.EmployeeLookupResult;
+import com.example.model.EmployeePage;
+import com.example.model.EmployeePatch;
+import com.example.model.EmployeeVersion;
+import com.example.model.EmployeeView;
 import com.example.repository.EmployeeRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.hibernate.exception.ConstraintViolationException;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
@@ -13,6 +27,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willDoNothing;
 import static org.mockito.Mockito.*;
@@ -20,16 +38,44 @@ import static org.mockito.Mockito.*;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @ExtendWith(MockitoExtension.class) // To notify tests that we are using Mockito annotations
 public class EmployeeServiceTests {
     @Mock
     private EmployeeRepository employeeRepositoryMock;
 
+    @Mock
+    private EntityManager entityManagerMock;
+
+    @Mock
+    private CacheManager cacheManagerMock;
+
+    @Mock
+    private Cache cacheMock;
+
+    @Mock
+    private EmployeeSearchIndex searchIndexMock;
+
+    @Mock
+    private EmployeeChangeLog changeLogMock;
+
     @InjectMocks
     private EmployeeService underTest;
 
@@ -43,6 +89,18 @@ public class EmployeeServiceTests {
                 .lastName("Kumar")
                 .email("adarsh@gmail.com")
                 .build();
+
+        // real single-flight, so lookups reach the repository mock
+        EmployeeLookupCoalescer lookupCoalescer = new EmployeeLookupCoalescer();
+        ReflectionTestUtils.setField(lookupCoalescer, "meterRegistry", new SimpleMeterRegistry());
+        lookupCoalescer.init();
+        ReflectionTestUtils.setField(underTest, "lookupCoalescer", lookupCoalescer);
+
+        // never built, so it rules nothing out and every lookup reaches the repository mock
+        EmployeeMembershipFilter membershipFilter = new EmployeeMembershipFilter();
+        ReflectionTestUtils.setField(membershipFilter, "meterRegistry", new SimpleMeterRegistry());
+        membershipFilter.init();
+        ReflectionTestUtils.setField(underTest, "membershipFilter", membershipFilter);
     }
 
     // save operation
@@ -50,14 +108,15 @@ public class EmployeeServiceTests {
     @DisplayName("saveEmployee")
     public void givenEmployeeObject_whenSaveEmployee_thenSavedEmployee() {
         // given
-        given(employeeRepositoryMock.findByEmail(employee.getEmail())).willReturn(Optional.empty());
-        given(employeeRepositoryMock.save(employee)).willReturn(employee);
+        given(employeeRepositoryMock.saveAndFlush(employee)).willReturn(employee);
 
         // when
         Employee savedEmployee = underTest.saveEmployee(employee);
 
         // then
         assertThat(savedEmployee).isNotNull();
+        verify(employeeRepositoryMock, never()).findByEmail(any());
+        verify(changeLogMock).appendUpserts(List.of(employee.getId()));
     }
 
     // save operation - throws ResourceAlreadyExistsException
@@ -65,7 +124,8 @@ public class EmployeeServiceTests {
     @DisplayName("saveEmployee - throws ResourceAlreadyExistsException")
     public void givenEmployeeObject_whenSaveEmployee_thenThrowsResourceAlreadyExistsException() {
         // given
-        given(employeeRepositoryMock.findByEmail(employee.getEmail())).willReturn(Optional.of(employee));
+        given(employeeRepositoryMock.saveAndFlush(employee)).willThrow(new DataIntegrityViolationException("duplicate",
+                new ConstraintViolationException("duplicate", new SQLException(), "PUBLIC.UK_EMPLOYEES_EMAIL_INDEX_4")));
 
         // when
         assertThatExceptionOfType(ResourceAlreadyExistsException.class)
@@ -73,7 +133,45 @@ public class EmployeeServiceTests {
                 .withMessageContaining("Employee already exist with given email:%s", employee.getEmail());
 
         // then
-        verify(employeeRepositoryMock, never()).save(any(Employee.class));
+        verify(employeeRepositoryMock, times(1)).saveAndFlush(employee);
+    }
+
+    // save operation - other constraint violations are not mapped
+    @Test
+    @DisplayName("saveEmployee - rethrows other DataIntegrityViolationException")
+    public void givenInvalidEmployeeObject_whenSaveEmployee_thenThrowsDataIntegrityViolationException() {
+        // given
+        given(employeeRepositoryMock.saveAndFlush(employee)).willThrow(new DataIntegrityViolationException("null value",
+                new ConstraintViolationException("null value", new SQLException(), null)));
+
+        // when
+        assertThatExceptionOfType(DataIntegrityViolationException.class)
+                .isThrownBy(() -> underTest.saveEmployee(employee));
+    }
+
+    // bulk save operation
+    @Test
+    @DisplayName("saveEmployees")
+    public void givenEmployeeList_whenSaveEmployees_thenPerItemResults() {
+        // given
+        Employee newEmployee = Employee.builder().firstName("Anand").lastName("Kumar").email("anand@gmail.com").build();
+        Employee repeatedEmployee = Employee.builder().firstName("Anand").lastName("K").email("anand@gmail.com").build();
+        Employee invalidEmployee = Employee.builder().firstName("Amit").lastName("Kumar").build();
+
+        given(employeeRepositoryMock.findExistingEmails(List.of("adarsh@gmail.com", "anand@gmail.com")))
+                .willReturn(Set.of("adarsh@gmail.com"));
+        given(employeeRepositoryMock.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        List<EmployeeBatchResult> results = underTest.saveEmployees(List.of(employee, newEmployee, repeatedEmployee, invalidEmployee));
+
+        // then
+        assertThat(results).extracting(EmployeeBatchResult::getStatus).containsExactly(
+                EmployeeBatchResult.Status.DUPLICATE,
+                EmployeeBatchResult.Status.CREATED,
+                EmployeeBatchResult.Status.DUPLICATE,
+                EmployeeBatchResult.Status.INVALID);
+        verify(employeeRepositoryMock, times(1)).saveAll(List.of(newEmployee));
     }
 
     // get all operation
@@ -112,6 +210,109 @@ public class EmployeeServiceTests {
         assertThat(employeeList).isEmpty();
     }
 
+    // search operation - limit is clamped
+    @Test
+    @DisplayName("searchEmployees")
+    public void givenLimitAboveMax_whenSearchEmployees_thenMaxPageSizeRequested() {
+        // given
+        List<String> fields = List.of("id", "email");
+        given(employeeRepositoryMock.findFields(fields, "Adarsh", null, 0, EmployeeService.MAX_PAGE_SIZE + 1))
+                .willReturn(List.of(Map.of("id", 1L, "email", "adarsh@gmail.com")));
+
+        // when
+        EmployeeFieldsPage page = underTest.searchEmployees("Adarsh", null, fields, 0, 1_000_000);
+
+        // then
+        assertThat(page.getEmployees()).hasSize(1);
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    // search operation - the cursor is set even when the id isn't selected
+    @Test
+    @DisplayName("searchEmployees - next cursor without id")
+    public void givenMoreMatchesThanLimit_whenSearchEmployeesWithoutId_thenNextCursorAndNoId() {
+        // given
+        given(employeeRepositoryMock.findFields(List.of("id", "email"), null, "Kumar", 0, 2))
+                .willReturn(List.of(
+                        new HashMap<>(Map.of("id", 1L, "email", "adarsh@gmail.com")),
+                        new HashMap<>(Map.of("id", 2L, "email", "anand@gmail.com"))));
+
+        // when
+        EmployeeFieldsPage page = underTest.searchEmployees(null, "Kumar", List.of("email"), 0, 1);
+
+        // then
+        assertThat(page.getEmployees()).containsExactly(Map.of("email", "adarsh@gmail.com"));
+        assertThat(page.getNextCursor()).isEqualTo(1L);
+    }
+
+    // search operation - throws InvalidRequestException for unknown fields
+    @Test
+    @DisplayName("searchEmployees - throws InvalidRequestException")
+    public void givenUnknownField_whenSearchEmployees_thenThrowsInvalidRequestException() {
+        // when
+        assertThatExceptionOfType(InvalidRequestException.class)
+                .isThrownBy(() -> underTest.searchEmployees(null, null, List.of("salary"), 0, 10))
+                .withMessageContaining("salary");
+
+        // then
+        verify(employeeRepositoryMock, never()).findFields(any(), any(), any(), anyLong(), any());
+    }
+
+    // keyset pagination operation
+    @Test
+    @DisplayName("getEmployeesPage")
+    public void givenMoreEmployeesThanLimit_whenGetEmployeesPage_thenPageWithNextCursor() {
+        // given
+        Employee employee1 = Employee.builder()
+                .id(2L)
+                .firstName("Anand")
+                .lastName("Kumar")
+                .email("anand@gmail.com")
+                .build();
+
+        given(employeeRepositoryMock.findByIdGreaterThanOrderByIdAsc(0, PageRequest.ofSize(2)))
+                .willReturn(List.of(employee, employee1));
+
+        // when
+        EmployeePage page = underTest.getEmployeesPage(0, 1);
+
+        // then
+        assertThat(page.getEmployees()).containsExactly(employee);
+        assertThat(page.getNextCursor()).isEqualTo(employee.getId());
+    }
+
+    // keyset pagination operation - last page
+    @Test
+    @DisplayName("getEmployeesPage - last page")
+    public void givenFewerEmployeesThanLimit_whenGetEmployeesPage_thenPageWithoutNextCursor() {
+        // given
+        given(employeeRepositoryMock.findByIdGreaterThanOrderByIdAsc(0, PageRequest.ofSize(11)))
+                .willReturn(List.of(employee));
+
+        // when
+        EmployeePage page = underTest.getEmployeesPage(0, 10);
+
+        // then
+        assertThat(page.getEmployees()).containsExactly(employee);
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    // streaming export operation
+    @Test
+    @DisplayName("exportEmployees")
+    public void givenEmployeeStream_whenExportEmployees_thenEachEmployeeConsumedAndDetached() {
+        // given
+        given(employeeRepositoryMock.streamAll()).willReturn(Stream.of(employee));
+        List<Employee> exported = new ArrayList<>();
+
+        // when
+        underTest.exportEmployees(exported::add);
+
+        // then
+        assertThat(exported).containsExactly(employee);
+        verify(entityManagerMock, times(1)).detach(employee);
+    }
+
     // get by id operation
     @Test
     @DisplayName("getEmployeeById")
@@ -126,6 +327,94 @@ public class EmployeeServiceTests {
         assertThat(savedEmployee).isNotNull();
     }
 
+    // get by email operation
+    @Test
+    @DisplayName("getEmployeeByEmail")
+    public void givenEmployeeEmail_whenGetEmployeeByEmail_thenEmployee() {
+        // given
+        given(employeeRepositoryMock.findByEmail(employee.getEmail())).willReturn(Optional.of(employee));
+
+        // when
+        Optional<Employee> foundEmployee = underTest.getEmployeeByEmail(employee.getEmail());
+
+        // then
+        assertThat(foundEmployee).contains(employee);
+    }
+
+    // version operation - served from the cached employee
+    @Test
+    @DisplayName("getEmployeeVersion - cached")
+    public void givenCachedEmployee_whenGetEmployeeVersion_thenNoQuery() {
+        // given
+        employee.setVersion(3);
+        given(cacheManagerMock.getCache(CacheConfig.EMPLOYEES_BY_ID)).willReturn(cacheMock);
+        given(cacheMock.get(employee.getId(), Employee.class)).willReturn(employee);
+
+        // when
+        Optional<EmployeeVersion> version = underTest.getEmployeeVersion(employee.getId());
+
+        // then
+        assertThat(version).hasValueSatisfying(value -> assertThat(value.getVersion()).isEqualTo(3));
+        verify(employeeRepositoryMock, never()).findVersionById(anyLong());
+    }
+
+    // version operation - version-only query on a cache miss
+    @Test
+    @DisplayName("getEmployeeVersion - not cached")
+    public void givenUncachedEmployee_whenGetEmployeeVersion_thenVersionQuery() {
+        // given
+        EmployeeVersion employeeVersion = new EmployeeVersion(3, Instant.now());
+        given(cacheManagerMock.getCache(CacheConfig.EMPLOYEES_BY_ID)).willReturn(cacheMock);
+        given(employeeRepositoryMock.findVersionById(employee.getId())).willReturn(Optional.of(employeeVersion));
+
+        // when
+        Optional<EmployeeVersion> version = underTest.getEmployeeVersion(employee.getId());
+
+        // then
+        assertThat(version).contains(employeeVersion);
+        verify(employeeRepositoryMock, never()).findById(anyLong());
+    }
+
+    // multi-get operation - cache hits, one query for the misses, results in request order
+    @Test
+    @DisplayName("getEmployeesByIds")
+    public void givenCachedAndUncachedIds_whenGetEmployeesByIds_thenOrderedResultsWithNotFound() {
+        // given
+        Employee employee2 = Employee.builder().id(2L).firstName("Tony").lastName("Stark").email("tony@gmail.com").build();
+        given(cacheManagerMock.getCache(CacheConfig.EMPLOYEES_BY_ID)).willReturn(cacheMock);
+        given(cacheMock.get(1L, Employee.class)).willReturn(employee);
+        given(cacheMock.get(2L, Employee.class)).willReturn(null);
+        given(cacheMock.get(3L, Employee.class)).willReturn(null);
+        given(employeeRepositoryMock.findAllById(List.of(2L, 3L))).willReturn(List.of(employee2));
+
+        // when
+        List<EmployeeLookupResult> results = underTest.getEmployeesByIds(List.of(2L, 1L, 3L, 2L));
+
+        // then
+        assertThat(results).extracting(EmployeeLookupResult::getId).containsExactly(2L, 1L, 3L, 2L);
+        assertThat(results).extracting(EmployeeLookupResult::getStatus).containsExactly(
+                EmployeeLookupResult.Status.FOUND, EmployeeLookupResult.Status.FOUND,
+                EmployeeLookupResult.Status.NOT_FOUND, EmployeeLookupResult.Status.FOUND);
+        assertThat(results.get(2).getEmployee()).isNull();
+        verify(employeeRepositoryMock, times(1)).findAllById(anyList());
+        verify(cacheMock).putIfAbsent(2L, employee2);
+    }
+
+    // multi-get operation - too many ids
+    @Test
+    @DisplayName("getEmployeesByIds - too many ids")
+    public void givenTooManyIds_whenGetEmployeesByIds_thenInvalidRequestException() {
+        // given
+        List<Long> ids = Collections.nCopies(EmployeeService.MAX_LOOKUP_SIZE + 1, 1L);
+
+        // when
+        assertThatExceptionOfType(InvalidRequestException.class)
+                .isThrownBy(() -> underTest.getEmployeesByIds(ids));
+
+        // then
+        verify(employeeRepositoryMock, never()).findAllById(anyList());
+    }
+
     // update operation
     @Test
     @DisplayName("updateEmployee")
@@ -139,7 +428,8 @@ public class EmployeeServiceTests {
                 .build();
 
         given(employeeRepositoryMock.findById(employee.getId())).willReturn(Optional.of(employee));
-        given(employeeRepositoryMock.save(updateData)).willReturn(updateData);
+        given(employeeRepositoryMock.replace(eq(1L), eq("Adarsh"), eq("Anand"), eq("adarsh.anand@gmail.com"), any(Instant.class))).willReturn(1);
+        given(employeeRepositoryMock.findVersionById(1L)).willReturn(Optional.of(new EmployeeVersion(1, Instant.now())));
 
         // when
         Employee updatedEmployee = underTest.updateEmployee(updateData);
@@ -148,6 +438,35 @@ public class EmployeeServiceTests {
         assertThat(updatedEmployee.getFirstName()).isEqualTo(updateData.getFirstName());
         assertThat(updatedEmployee.getLastName()).isEqualTo(updateData.getLastName());
         assertThat(updatedEmployee.getEmail()).isEqualTo(updateData.getEmail());
+        assertThat(updatedEmployee.getVersion()).isEqualTo(1);
+        verify(employeeRepositoryMock, never()).save(any(Employee.class));
+    }
+
+    // update operation - evicts cached entries for the old and new email
+    @Test
+    @DisplayName("updateEmployee - evicts cache")
+    public void givenCachedEmployee_whenUpdateEmployee_thenOldAndNewEntriesEvicted() {
+        // given
+        Employee updateData = Employee.builder()
+                .id(1)
+                .firstName("Adarsh")
+                .lastName("Anand")
+                .email("adarsh.anand@gmail.com")
+                .build();
+
+        given(cacheManagerMock.getCache(any())).willReturn(cacheMock);
+        given(employeeRepositoryMock.findById(employee.getId())).willReturn(Optional.of(employee));
+        given(employeeRepositoryMock.replace(eq(1L), any(), any(), any(), any(Instant.class))).willReturn(1);
+        given(employeeRepositoryMock.findVersionById(1L)).willReturn(Optional.of(new EmployeeVersion(1, Instant.now())));
+
+        // when
+        underTest.updateEmployee(updateData);
+
+        // then
+        verify(cacheManagerMock, atLeastOnce()).getCache(CacheConfig.EMPLOYEES_BY_ID);
+        verify(cacheMock, atLeastOnce()).evict(employee.getId());
+        verify(cacheMock, times(1)).evict(employee.getEmail());
+        verify(cacheMock, times(1)).evict(updateData.getEmail());
     }
 
     // update operation  - throws ResourceNotFoundException
@@ -170,21 +489,204 @@ public class EmployeeServiceTests {
                 .withMessageContaining("Employee doesn't exist with given email:%s", updateData.getId());
 
         // then
+        verify(employeeRepositoryMock, never()).replace(anyLong(), any(), any(), any(), any());
+    }
+
+    // update operation - a replacement needs every field
+    @Test
+    @DisplayName("updateEmployee - throws InvalidRequestException")
+    public void givenEmployeeWithoutEmail_whenUpdateEmployee_thenThrowsInvalidRequestException() {
+        // given
+        Employee updateData = Employee.builder()
+                .id(1)
+                .firstName("Adarsh")
+                .lastName("Anand")
+                .build();
+
+        // when
+        assertThatExceptionOfType(InvalidRequestException.class)
+                .isThrownBy(() -> underTest.updateEmployee(updateData));
+
+        // then
+        verify(employeeRepositoryMock, never()).replace(anyLong(), any(), any(), any(), any());
+    }
+
+    // partial update operation - single UPDATE, result built from the read copy
+    @Test
+    @DisplayName("patchEmployee")
+    public void givenEmployeePatch_whenPatchEmployee_thenPatchedEmployee() {
+        // given
+        EmployeePatch patch = EmployeePatch.builder().lastName("Anand").build();
+
+        given(employeeRepositoryMock.findById(employee.getId())).willReturn(Optional.of(employee));
+        given(employeeRepositoryMock.patch(eq(employee.getId()), isNull(), eq("Anand"), isNull(), eq(0L), any(Instant.class))).willReturn(1);
+
+        // when
+        Employee patchedEmployee = underTest.patchEmployee(employee.getId(), patch);
+
+        // then
+        assertThat(patchedEmployee.getFirstName()).isEqualTo(employee.getFirstName());
+        assertThat(patchedEmployee.getLastName()).isEqualTo("Anand");
+        assertThat(patchedEmployee.getEmail()).isEqualTo(employee.getEmail());
+        assertThat(patchedEmployee.getVersion()).isEqualTo(1);
+        verify(employeeRepositoryMock, times(1)).findById(employee.getId());
         verify(employeeRepositoryMock, never()).save(any(Employee.class));
     }
 
+    // partial update operation - stale cached copy is re-read once when the client sent no version
+    @Test
+    @DisplayName("patchEmployee - retries after stale read")
+    public void givenStaleCachedEmployee_whenPatchEmployee_thenRetriedAgainstCurrentVersion() {
+        // given
+        EmployeePatch patch = EmployeePatch.builder().lastName("Anand").build();
+        Employee currentEmployee = Employee.builder()
+                .id(1L)
+                .firstName("Adarsh")
+                .lastName("K")
+                .email("adarsh@gmail.com")
+                .version(3)
+                .build();
+
+        given(employeeRepositoryMock.findById(employee.getId()))
+                .willReturn(Optional.of(employee))
+                .willReturn(Optional.of(currentEmployee));
+        given(employeeRepositoryMock.patch(eq(employee.getId()), isNull(), eq("Anand"), isNull(), eq(0L), any(Instant.class))).willReturn(0);
+        given(employeeRepositoryMock.patch(eq(employee.getId()), isNull(), eq("Anand"), isNull(), eq(3L), any(Instant.class))).willReturn(1);
+
+        // when
+        Employee patchedEmployee = underTest.patchEmployee(employee.getId(), patch);
+
+        // then
+        assertThat(patchedEmployee.getLastName()).isEqualTo("Anand");
+        assertThat(patchedEmployee.getVersion()).isEqualTo(4);
+    }
+
+    // partial update operation - throws ObjectOptimisticLockingFailureException on a version mismatch
+    @Test
+    @DisplayName("patchEmployee - throws ObjectOptimisticLockingFailureException")
+    public void givenOutdatedVersion_whenPatchEmployee_thenThrowsObjectOptimisticLockingFailureException() {
+        // given
+        EmployeePatch patch = EmployeePatch.builder().lastName("Anand").version(2L).build();
+
+        given(employeeRepositoryMock.findById(employee.getId())).willReturn(Optional.of(employee));
+        given(employeeRepositoryMock.patch(eq(employee.getId()), isNull(), eq("Anand"), isNull(), eq(2L), any(Instant.class))).willReturn(0);
+
+        // when
+        assertThatExceptionOfType(ObjectOptimisticLockingFailureException.class)
+                .isThrownBy(() -> underTest.patchEmployee(employee.getId(), patch));
+
+        // then
+        verify(employeeRepositoryMock, times(1)).patch(anyLong(), any(), any(), any(), anyLong(), any());
+    }
+
+    // suggest operation - limit is clamped
+    @Test
+    @DisplayName("suggestEmployees")
+    public void givenLimitAboveMax_whenSuggestEmployees_thenMaxSuggestionsRequested() {
+        // given
+        given(searchIndexMock.search("ada", EmployeeService.MAX_SUGGESTIONS)).willReturn(List.of(
+                EmployeeView.builder().id(1L).firstName("Adarsh").lastName("Kumar").email("adarsh@gmail.com").build()));
+
+        // when
+        List<EmployeeView> suggestions = underTest.suggestEmployees("ada", 1_000);
+
+        // then
+        assertThat(suggestions).extracting(EmployeeView::getFirstName).containsExactly("Adarsh");
+    }
+
     // delete operation
     @Test
     @DisplayName("deleteEmployee")
     public void givenEmployeeId_whenDeleteEmployee_thenCheckEmployeeDeletion() {
         // given
         long employeeId = employee.getId();
-        willDoNothing().given(employeeRepositoryMock).deleteById(employeeId);
+        given(employeeRepositoryMock.deleteByIds(List.of(employeeId))).willReturn(1);
 
         // when
         underTest.deleteEmployee(employeeId);
 
         // then
-        verify(employeeRepositoryMock, times(1)).deleteById(employeeId);
+        verify(employeeRepositoryMock, times(1)).deleteByIds(List.of(employeeId));
+        verify(employeeRepositoryMock, never()).deleteById(employeeId);
+    }
+
+    // delete operation - evicts cached entries
+    @Test
+    @DisplayName("deleteEmployee - evicts cache")
+    public void givenCachedEmployee_whenDeleteEmployee_thenEntriesEvicted() {
+        // given
+        long employeeId = employee.getId();
+        given(cacheManagerMock.getCache(any())).willReturn(cacheMock);
+        given(employeeRepositoryMock.findById(employeeId)).willReturn(Optional.of(employee));
+        given(employeeRepositoryMock.deleteByIds(List.of(employeeId))).willReturn(1);
+
+        // when
+        underTest.deleteEmployee(employeeId);
+
+        // then
+        verify(employeeRepositoryMock, times(1)).deleteByIds(List.of(employeeId));
+        verify(changeLogMock).appendDeletes(List.of(employeeId));
+        verify(cacheMock, atLeastOnce()).evict(employeeId);
+        verify(cacheMock, times(1)).evict(employee.getEmail());
+    }
+
+    // bulk delete operation - one statement per IN-list chunk
+    @Test
+    @DisplayName("deleteEmployees")
+    public void givenEmployeeIds_whenDeleteEmployees_thenDeletedInChunksAndCachesInvalidated() {
+        // given
+        List<Long> ids = new ArrayList<>();
+        for (long id = 1; id <= EmployeeService.IN_LIST_SIZE + 1; id++) {
+            ids.add(id);
+        }
+        ids.add(1L);
+
+        given(cacheManagerMock.getCache(any())).willReturn(cacheMock);
+        given(employeeRepositoryMock.deleteByIds(anyList())).willReturn(EmployeeService.IN_LIST_SIZE, 1);
+
+        // when
+        EmployeeBulkResult result = underTest.deleteEmployees(ids);
+
+        // then
+        assertThat(result.getAffected()).isEqualTo(EmployeeService.IN_LIST_SIZE + 1);
+        verify(employeeRepositoryMock, times(2)).deleteByIds(anyList());
+        verify(cacheMock, times(1)).evict(1L);
+        verify(cacheMock, times(1)).clear();
+        verify(changeLogMock, times(1)).appendDeletes(anyList());
+    }
+
+    // bulk update operation
+    @Test
+    @DisplayName("updateEmployees")
+    public void givenBulkUpdate_whenUpdateEmployees_thenMatchingEmployeesRenamed() {
+        // given
+        EmployeeBulkUpdate update = EmployeeBulkUpdate.builder().lastName("Kumar").newLastName("Verma").build();
+
+        given(cacheManagerMock.getCache(any())).willReturn(cacheMock);
+        given(employeeRepositoryMock.findIdsByName(null, "Kumar")).willReturn(List.of(1L));
+        given(employeeRepositoryMock.updateNamesByIds(eq(List.of(1L)), isNull(), eq("Verma"), any(Instant.class))).willReturn(1);
+
+        // when
+        EmployeeBulkResult result = underTest.updateEmployees(update);
+
+        // then
+        assertThat(result.getAffected()).isEqualTo(1);
+        verify(cacheMock, times(1)).evict(1L);
+        verify(changeLogMock, times(1)).appendUpserts(List.of(1L));
+    }
+
+    // bulk update operation - throws InvalidRequestException without criteria
+    @Test
+    @DisplayName("updateEmployees - throws InvalidRequestException")
+    public void givenBulkUpdateWithoutCriteria_whenUpdateEmployees_thenThrowsInvalidRequestException() {
+        // given
+        EmployeeBulkUpdate update = EmployeeBulkUpdate.builder().newLastName("Verma").build();
+
+        // when
+        assertThatExceptionOfType(InvalidRequestException.class)
+                .isThrownBy(() -> underTest.updateEmployees(update));
+
+        // then
+        verify(employeeRepositoryMock, never()).updateNamesByIds(anyList(), any(), any(), any());
     }
 }
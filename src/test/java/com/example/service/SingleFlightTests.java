@@ -0,0 +1,118 @@
+package com.example.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class SingleFlightTests {
+    private static final int CALLERS = 8;
+
+    private final AtomicInteger coalesced = new AtomicInteger();
+
+    private SingleFlight<String, String> underTest;
+
+    @BeforeEach
+    public void setup() {
+        underTest = new SingleFlight<>(coalesced::incrementAndGet);
+    }
+
+    // identical concurrent calls share one load
+    @Test
+    @DisplayName("execute - concurrent identical calls")
+    public void givenCallInFlight_whenSameKeyExecuted_thenLoaderRunsOnce() throws Exception {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        // when
+        List<Future<String>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(CALLERS)) {
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(executor.submit(() -> underTest.execute("hot", () -> {
+                    loads.incrementAndGet();
+                    await(release);
+                    return "value";
+                })));
+            }
+            // hold the first load until every other caller has joined it
+            while (coalesced.get() < CALLERS - 1) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+        }
+
+        // then
+        for (Future<String> result : results) {
+            assertThat(result.get()).isEqualTo("value");
+        }
+        assertThat(loads).hasValue(1);
+        assertThat(coalesced).hasValue(CALLERS - 1);
+        assertThat(underTest.inFlight()).isZero();
+    }
+
+    // waiters get the leader's exception
+    @Test
+    @DisplayName("execute - loader fails")
+    public void givenFailingLoad_whenCallersJoin_thenAllSeeException() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+
+        // when
+        List<Future<String>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            for (int i = 0; i < 2; i++) {
+                results.add(executor.submit(() -> underTest.execute("hot", () -> {
+                    await(release);
+                    throw new IllegalStateException("database down");
+                })));
+            }
+            while (coalesced.get() < 1) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+        }
+
+        // then
+        for (Future<String> result : results) {
+            assertThatExceptionOfType(Exception.class)
+                    .isThrownBy(result::get)
+                    .withCauseInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    // completed calls are not remembered
+    @Test
+    @DisplayName("execute - sequential calls")
+    public void givenCompletedCall_whenSameKeyExecuted_thenLoadsAgain() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        underTest.execute("key", () -> "first " + loads.incrementAndGet());
+        String second = underTest.execute("key", () -> "second " + loads.incrementAndGet());
+
+        // then
+        assertThat(second).isEqualTo("second 2");
+        assertThat(coalesced).hasValue(0);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}